@@ -1,14 +1,13 @@
 package com.example.eventsAmoBE.auth;
 
-import com.example.eventsAmoBE.exceptions.UserNotFoundException;
+import com.example.eventsAmoBE.exceptions.InvalidCredentialsException;
 import com.example.eventsAmoBE.security.JwtService;
+import com.example.eventsAmoBE.security.PasswordHashingExecutor;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
 import com.example.eventsAmoBE.user.model.User;
 import com.example.eventsAmoBE.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,9 +15,9 @@ import org.springframework.stereotype.Service;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final TokenRevocationList tokenRevocationList;
 
     public AuthResponseDto register(RegisterRequestDto request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -29,7 +28,7 @@ public class AuthenticationService {
                 .name(request.getName())
                 .lastName(request.getLastName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashing.encode(request.getPassword()))
                 .isAdmin(false) // Default to regular user
                 .build();
 
@@ -41,22 +40,25 @@ public class AuthenticationService {
                 .build();
     }
 
-    @CacheEvict(value = "currentUser", allEntries = true)
+    // One lookup and one hash comparison per login, also for unknown emails, so they look the same to the caller as
+    // wrong passwords, in response and in timing
+    @CacheEvict(value = "currentUser", key = "#request.email")
     public AuthResponseDto authenticate(AuthRequestDto request) {
-        User user1 = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(UserNotFoundException::new);
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            passwordHashing.matchesNothing(request.getPassword());
+            throw new InvalidCredentialsException();
+        }
 
-        System.out.println("Password matches: " +
-                passwordEncoder.matches(request.getPassword(), user1.getPassword()));
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+        if (request.getPassword() == null || !passwordHashing.matches(request.getPassword(), user.getPassword())) {
+            throw new InvalidCredentialsException();
+        }
 
-        var user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow();
+        // Move the stored hash to the calibrated cost while the raw password is at hand
+        if (passwordHashing.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHashing.encode(request.getPassword()));
+            userRepository.save(user);
+        }
 
         var jwtToken = jwtService.generateToken(user);
 
@@ -64,4 +66,8 @@ public class AuthenticationService {
                 .token(jwtToken)
                 .build();
     }
-}
\ No newline at end of file
+
+    public void logout(String token) {
+        jwtService.verify(token).ifPresent(tokenRevocationList::revoke);
+    }
+}
@@ -14,7 +14,7 @@ import java.util.concurrent.TimeUnit;
 public class CacheConfiguration {
     @Bean
     public CacheManager eventCacheManager() {
-        CaffeineCacheManager mgr = new CaffeineCacheManager("currentUser"); //"events", "mainEvents", "promotedEvents",
+        CaffeineCacheManager mgr = new CaffeineCacheManager("currentUser"); // listing pages live in EventPageCache
         mgr.setCaffeine(Caffeine.newBuilder()
                 .initialCapacity(50)
                 .maximumSize(500)
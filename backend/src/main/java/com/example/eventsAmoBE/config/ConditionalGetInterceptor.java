@@ -0,0 +1,135 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.catalog.CatalogRevision;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
+import com.example.eventsAmoBE.security.JwtPrincipal;
+import com.example.eventsAmoBE.user.membership.MembershipIdCache;
+import com.example.eventsAmoBE.utils.EventIdBatch;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers conditional GETs on index-backed event endpoints with 304 before the controller runs. Tags come from the
+ * {@link CatalogRevision}, which changes on every catalog write and whenever a listed event starts.
+ * <p>
+ * Lookups by id also serve past events, read from the database; their counters don't move the revision, so those
+ * responses go untagged.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String SINGLE_EVENT = "/eventGet/{id}";
+    private static final String EVENT_BATCH = "/events/batch";
+
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final MembershipIdCache membershipIdCache;
+
+    public ConditionalGetInterceptor(UpcomingEventIndex upcomingEventIndex, MembershipIdCache membershipIdCache) {
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.membershipIdCache = membershipIdCache;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION + ", " + HttpHeaders.ACCEPT);
+        if (!servedFromIndex(request)) {
+            return true;
+        }
+
+        CatalogRevision revision = upcomingEventIndex.revision(LocalDateTime.now());
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        String format = format(request);
+
+        // Authenticated responses carry saved/attending flags, so their tag includes the user's membership version.
+        // Last-Modified can't express that and is left out.
+        if (SecurityContextHolder.getContext().getAuthentication() != null
+                && SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof JwtPrincipal principal) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            long membershipVersion = membershipIdCache.get(principal.getId()).version();
+            return !webRequest.checkNotModified(tagged(revision.etag(membershipVersion), format));
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // Sets ETag and Last-Modified either way, and the 304 status when the client copy is current
+        return !webRequest.checkNotModified(tagged(revision.etag(), format), revision.lastModified());
+    }
+
+    // Only answers built entirely from the index can be tagged. Unparseable ids are left for the controller to reject.
+    private boolean servedFromIndex(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        List<String> ids;
+        if (SINGLE_EVENT.equals(pattern)) {
+            Map<?, ?> variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            ids = variables != null && variables.get("id") instanceof String id ? List.of(id) : List.of();
+        } else if (EVENT_BATCH.equals(pattern)) {
+            String[] values = request.getParameterValues("ids");
+            ids = values == null ? List.of() : Arrays.stream(values)
+                    .flatMap(value -> Arrays.stream(value.split(",")))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .toList();
+        } else {
+            return true;
+        }
+
+        if (ids.isEmpty() || ids.size() > EventIdBatch.MAX_SIZE) {
+            return false;
+        }
+        try {
+            return ids.stream().allMatch(id -> upcomingEventIndex.find(Long.valueOf(id)).isPresent());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // JSON, CBOR and Smile bodies of one revision are different bytes, so each gets its own strong tag
+    private static String tagged(String etag, String format) {
+        return format.isEmpty() ? etag : etag.substring(0, etag.length() - 1) + "." + format + "\"";
+    }
+
+    // The format content negotiation will pick: the most preferred acceptable type, JSON unless that's a binary one
+    static String format(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+
+        MediaType preferred = null;
+        for (MediaType type : types) {
+            if (preferred == null || type.getQualityValue() > preferred.getQualityValue()) {
+                preferred = type;
+            }
+        }
+        if (preferred == null || preferred.isWildcardSubtype()) {
+            return "";
+        }
+        return switch (preferred.getSubtype()) {
+            case "cbor" -> "cbor";
+            case "x-jackson-smile" -> "smile";
+            default -> "";
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.catalog.CatalogRevision;
+import com.example.eventsAmoBE.event.catalog.HotPageCache;
+import com.example.eventsAmoBE.event.catalog.HotPageCache.HotPage;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
+import com.example.eventsAmoBE.event.services.GetEventsService;
+import com.example.eventsAmoBE.event.services.GetMainEventsService;
+import com.example.eventsAmoBE.event.services.GetPromotedEventsService;
+import com.example.eventsAmoBE.security.JwtPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves the first page of {@code /events}, {@code /event/main} and {@code /event/promoted} to anonymous JSON clients
+ * straight from the {@link HotPageCache}, gzip-encoded when accepted, without reaching the controller. Anything else,
+ * including a later page, a cursor, a binary format or a signed-in user (whose events carry personal flags), goes
+ * through as usual. Runs after the {@link ConditionalGetInterceptor}, which has already answered 304s and set the
+ * caching headers.
+ */
+@Component
+public class HotPageInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> PAGE_PARAMETERS = Set.of("page", "size", "count");
+    private static final int MAX_HOT_SIZE = 50;
+
+    private final HotPageCache hotPageCache;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final GetEventsService getEventsService;
+    private final GetMainEventsService getMainEventsService;
+    private final GetPromotedEventsService getPromotedEventsService;
+
+    public HotPageInterceptor(
+            HotPageCache hotPageCache,
+            UpcomingEventIndex upcomingEventIndex,
+            GetEventsService getEventsService,
+            GetMainEventsService getMainEventsService,
+            GetPromotedEventsService getPromotedEventsService
+    ) {
+        this.hotPageCache = hotPageCache;
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.getEventsService = getEventsService;
+        this.getMainEventsService = getMainEventsService;
+        this.getPromotedEventsService = getPromotedEventsService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!"GET".equals(request.getMethod()) || !isAnonymous(request) || !acceptsJson(request)) {
+            return true;
+        }
+
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (!PAGE_PARAMETERS.containsAll(parameters.keySet()) || !"0".equals(parameter(request, "page", "0"))) {
+            return true;
+        }
+        int size;
+        try {
+            size = Integer.parseInt(parameter(request, "size", "10"));
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        String count = parameter(request, "count", "true");
+        if (size < 1 || size > MAX_HOT_SIZE || !("true".equals(count) || "false".equals(count))) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean withTotals = Boolean.parseBoolean(count);
+        PageRequest pageable = PageRequest.of(0, size);
+        CatalogRevision revision = upcomingEventIndex.revision(LocalDateTime.now());
+        String key = path + "?size=" + size + "&count=" + withTotals;
+
+        HotPage page = switch (path) {
+            case "/events" -> hotPageCache.get(key, revision, () -> getEventsService.execute(pageable, null, withTotals));
+            case "/event/main" -> hotPageCache.get(key, revision, () -> getMainEventsService.execute(pageable, null, withTotals));
+            case "/event/promoted" -> hotPageCache.get(key, revision, () -> getPromotedEventsService.execute(pageable, null, withTotals));
+            default -> null;
+        };
+        if (page == null) {
+            return true;
+        }
+
+        boolean gzip = acceptsGzip(request);
+        byte[] body = gzip ? page.gzip() : page.json();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        return false;
+    }
+
+    // A request with an Authorization header is left alone even if the token was rejected, to keep its answer the same
+    private static boolean isAnonymous(HttpServletRequest request) {
+        if (request.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal);
+    }
+
+    private static boolean acceptsJson(HttpServletRequest request) {
+        if (!ConditionalGetInterceptor.format(request).isEmpty()) {
+            return false;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> type.getQualityValue() > 0 && type.includes(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String parameter(HttpServletRequest request, String name, String defaultValue) {
+        String value = request.getParameter(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.security.JwtPrincipal;
+import com.example.eventsAmoBE.user.membership.MembershipIdCache;
+import com.example.eventsAmoBE.user.membership.UserMemberships;
+import com.example.eventsAmoBE.utils.PageResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Flags the events in responses to authenticated users as saved or attended, from the {@link MembershipIdCache}.
+ * Cached DTOs and pages are shared between users, so flagged copies are written instead; anonymous responses pass
+ * through untouched.
+ */
+@ControllerAdvice
+public class MembershipFlagsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final MembershipIdCache membershipIdCache;
+
+    public MembershipFlagsAdvice(MembershipIdCache membershipIdCache) {
+        this.membershipIdCache = membershipIdCache;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (!(body instanceof EventDto || body instanceof PageResponse<?> || body instanceof Collection<?>)) {
+            return body;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal principal)) {
+            return body;
+        }
+
+        UserMemberships memberships = membershipIdCache.get(principal.getId());
+        if (body instanceof EventDto event) {
+            return flag(event, memberships);
+        }
+        if (body instanceof PageResponse<?> page && containsEvents(page.getContent())) {
+            return page.withContent(flagAll(page.getContent(), memberships));
+        }
+        if (body instanceof Set<?> set && containsEvents(set)) {
+            return new LinkedHashSet<>(flagAll(set, memberships));
+        }
+        if (body instanceof List<?> list && containsEvents(list)) {
+            return flagAll(list, memberships);
+        }
+        return body;
+    }
+
+    private static boolean containsEvents(Collection<?> items) {
+        return items != null && !items.isEmpty() && items.iterator().next() instanceof EventDto;
+    }
+
+    private static List<EventDto> flagAll(Collection<?> events, UserMemberships memberships) {
+        return events.stream().map(event -> flag((EventDto) event, memberships)).toList();
+    }
+
+    private static EventDto flag(EventDto event, UserMemberships memberships) {
+        return event.withMembership(memberships.isSaved(event.getId()), memberships.isAttending(event.getId()));
+    }
+}
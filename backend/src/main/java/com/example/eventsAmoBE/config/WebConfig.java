@@ -0,0 +1,28 @@
+package com.example.eventsAmoBE.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final HotPageInterceptor hotPageInterceptor;
+
+    public WebConfig(ConditionalGetInterceptor conditionalGetInterceptor, HotPageInterceptor hotPageInterceptor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+        this.hotPageInterceptor = hotPageInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Not /event/suggest: the suggester rebuilds its trie after the revision moves, so a tag taken in between
+        // would pin the old suggestions
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/events", "/events/batch", "/event/main", "/event/promoted", "/event/filter", "/event/search", "/eventGet/*");
+        // Registered second, so 304s are answered before any cached body is written
+        registry.addInterceptor(hotPageInterceptor)
+                .addPathPatterns("/events", "/event/main", "/event/promoted");
+    }
+}
@@ -1,19 +1,32 @@
 package com.example.eventsAmoBE.event;
 
+import com.example.eventsAmoBE.event.bulk.EventExportService;
+import com.example.eventsAmoBE.event.bulk.EventImportReport;
+import com.example.eventsAmoBE.event.bulk.EventImportService;
 import com.example.eventsAmoBE.event.model.CreateEventDto;
 import com.example.eventsAmoBE.event.model.Event;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.SuggestionDto;
 import com.example.eventsAmoBE.event.services.*;
+import com.example.eventsAmoBE.utils.EventCursor;
 import com.example.eventsAmoBE.utils.PageResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,12 +34,16 @@ public class EventController {
 
     private final CreateEventService createEventService;
     private final DeleteEventService deleteEventService;
+    private final EventExportService eventExportService;
+    private final EventImportService eventImportService;
     private final GetFilteredEventsService getFilteredEventsService;
     private final GetEventService getEventService;
+    private final GetEventBatchService getEventBatchService;
     private final GetEventsService getEventsService;
     private final GetMainEventsService getMainEventsService;
     private final GetPromotedEventsService getPromotedEventsService;
     private final SearchEventService searchEventService;
+    private final SuggestEventsService suggestEventsService;
     private final UpdateEventService updateEventService;
 
     @PostMapping("/event")
@@ -36,6 +53,29 @@ public class EventController {
         return ResponseEntity.created(location).body(new EventDto(response));
     }
 
+    @PostMapping(value = "/event/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<EventImportReport> importEvents(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        EventImportReport response = eventImportService.execute(body, contentType.startsWith("text/csv"));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/event/export")
+    public WebAsyncTask<Void> exportEvents(
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        response.setContentType((csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=events." + (csv ? "csv" : "ndjson"));
+        return new WebAsyncTask<>(eventExportService.getTimeoutMillis(), () -> {
+            eventExportService.execute(response.getOutputStream(), csv);
+            return null;
+        });
+    }
+
     @DeleteMapping("event/{id}")
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
         deleteEventService.execute(id);
@@ -48,6 +88,11 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/events/batch")
+    public ResponseEntity<List<EventDto>> getEventBatch(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(getEventBatchService.execute(ids));
+    }
+
     @PutMapping("/event/{id}")
     public ResponseEntity<EventDto> updateEvent(@PathVariable Long id, @RequestBody Event event) {
         Event response = updateEventService.execute(id, event);
@@ -57,10 +102,12 @@ public class EventController {
     @GetMapping("/events")
     public ResponseEntity<PageResponse<EventDto>> getEvents(
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponse<EventDto> response = getEventsService.execute(pageable);
+        PageResponse<EventDto> response = getEventsService.execute(pageable, EventCursor.decode(cursor), count);
 
         return ResponseEntity.ok(response);
     }
@@ -70,10 +117,12 @@ public class EventController {
             @RequestParam String city,
             @RequestParam String category,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponse<EventDto> response = getFilteredEventsService.execute(pageable, city, category);
+        PageResponse<EventDto> response = getFilteredEventsService.execute(pageable, EventCursor.decode(cursor), count, city, category);
 
         return ResponseEntity.ok(response);
     }
@@ -81,10 +130,12 @@ public class EventController {
     @GetMapping("/event/main")
     public ResponseEntity<PageResponse<EventDto>> getMainEvents(
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponse<EventDto> response = getMainEventsService.execute(pageable);
+        PageResponse<EventDto> response = getMainEventsService.execute(pageable, EventCursor.decode(cursor), count);
 
         return ResponseEntity.ok(response);
     }
@@ -92,10 +143,12 @@ public class EventController {
     @GetMapping("/event/promoted")
     public ResponseEntity<PageResponse<EventDto>> getPromotedEvents(
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponse<EventDto> response = getPromotedEventsService.execute(pageable);
+        PageResponse<EventDto> response = getPromotedEventsService.execute(pageable, EventCursor.decode(cursor), count);
 
         return ResponseEntity.ok(response);
     }
@@ -104,11 +157,21 @@ public class EventController {
     public ResponseEntity<PageResponse<EventDto>> searchEvents(
             @RequestParam String search,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        PageResponse<EventDto> response = searchEventService.execute(search, pageable);
+        PageResponse<EventDto> response = searchEventService.execute(search, pageable, EventCursor.decode(cursor), count);
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/event/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggestEvents(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "5") int limit
+    ) {
+        return ResponseEntity.ok(suggestEventsService.execute(prefix, limit));
+    }
 }
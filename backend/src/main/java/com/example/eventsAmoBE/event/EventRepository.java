@@ -1,66 +1,53 @@
 package com.example.eventsAmoBE.event;
 
-import com.example.eventsAmoBE.event.model.Category;
-import com.example.eventsAmoBE.event.model.City;
 import com.example.eventsAmoBE.event.model.Event;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.example.eventsAmoBE.event.model.EventRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @Query("""
-    SELECT e FROM Event e
-    WHERE e.startDateTime > :now
-    ORDER BY e.startDateTime ASC
-""")
-    Page<Event> findUpcomingEvents(@Param("now") LocalDateTime now, Pageable pageable);
-
-    @Query("""
-    SELECT e FROM Event e
-    WHERE e.mainEvent = true
-    AND e.startDateTime > :now
-    ORDER BY e.priority DESC, e.startDateTime ASC
-""")
-    Page<Event> findUpcomingMainEvents(@Param("now") LocalDateTime now, Pageable pageable);
-
-    @Query("""
-    SELECT e FROM Event e
-    WHERE e.startDateTime > :now AND (
-        LOWER(e.name) LIKE LOWER(CONCAT('%', :text, '%')) OR
-        LOWER(e.description) LIKE LOWER(CONCAT('%', :text, '%'))
-    )
-    ORDER BY e.startDateTime ASC
-""")
-    Page<Event> searchUpcomingByNameOrDescription(@Param("text") String text, @Param("now") LocalDateTime now, Pageable pageable);
-
-    @Query("""
-    SELECT DISTINCT e FROM Event e
-    JOIN e.categories c
-    WHERE (:category IS NULL OR c = :category)
-    AND (:city IS NULL OR e.city = :city)
-    AND e.startDateTime > :now
-    ORDER BY e.startDateTime ASC
-""")
-    Page<Event> findUpcomingByCityAndCategory(
-            @Param("city") City city,
-            @Param("category") Category category,
-            @Param("now") LocalDateTime now,
-            Pageable pageable
-    );
-
-
-    @Query("""
-    SELECT e FROM Event e
-    WHERE e.promoted = true
-    AND e.startDateTime > :now
-    ORDER BY e.priority DESC, e.startDateTime ASC
-""")
-    Page<Event> findUpcomingPromotedEvents(@Param("now") LocalDateTime now, Pageable pageable);
-}
\ No newline at end of file
+    // Projections select straight into EventRow, one row per category; fold them with EventRow.toDtos
+    String EVENT_ROW = """
+    SELECT new com.example.eventsAmoBE.event.model.EventRow(
+        e.id, e.name, e.description, e.imageUrl, e.city, e.address, e.startDateTime, e.price,
+        e.priority, e.mainEvent, e.promoted, e.attendeeCount, e.savedCount, c)
+    FROM Event e
+    LEFT JOIN e.categories c
+""";
+
+    @Query("SELECT e.id FROM Event e")
+    List<Long> findAllIds();
+
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    @Query(EVENT_ROW + "WHERE e.startDateTime > :now")
+    List<EventRow> findUpcomingRows(@Param("now") LocalDateTime now);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(EVENT_ROW + "WHERE e.id = :id")
+    List<EventRow> findRowsById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100")
+    })
+    @Query(EVENT_ROW + "WHERE e.id IN :ids")
+    List<EventRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,224 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the whole event catalog as NDJSON or CSV, in id order, without holding more than one event in memory.
+ * <p>
+ * Events and categories come from a single ordered join read through a forward-only cursor; with MySQL's default
+ * fetch size of {@link Integer#MIN_VALUE} the driver streams rows instead of buffering the result. Consecutive rows of
+ * the same event are folded into one record, which is written to a buffered stream flushed every few hundred events.
+ * The CSV header matches what {@link EventImportService} reads, so an export can be imported again.
+ * <p>
+ * A full export can run for minutes, so it gets its own async timeout instead of the one every other request uses.
+ */
+@Service
+public class EventExportService {
+
+    private static final String EXPORT_ROWS = """
+            SELECT e.id, e.name, e.description, e.image_url, e.city, e.address, e.start_date_time, e.price,
+                e.priority, e.main_event, e.promoted, e.attendee_count, e.saved_count, c.category
+            FROM event e
+            LEFT JOIN event_categories c ON c.event_id = e.id
+            ORDER BY e.id""";
+
+    private static final String CSV_HEADER =
+            "id,name,description,imageUrl,address,startDateTime,price,city,categories,priority,mainEvent,promoted,attendeeCount,savedCount";
+    private static final int FLUSH_EVERY = 500;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+
+    public EventExportService(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${events.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+            @Value("${events.export.timeout-minutes:30}") long timeoutMinutes
+    ) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public void execute(OutputStream out, boolean csv) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        RecordWriter writer = csv ? new CsvWriter(buffered) : new NdjsonWriter(buffered, objectMapper);
+        Folder folder = new Folder(writer);
+        try {
+            streamingJdbcTemplate.query(EXPORT_ROWS, folder::accept);
+            folder.finish();
+        } catch (UncheckedIOException e) {
+            // Client went away mid-export; the cursor is closed by now
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static EventRow toRow(ResultSet rs) throws SQLException {
+        String category = rs.getString("category");
+        return new EventRow(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getString("image_url"),
+                City.valueOf(rs.getString("city")),
+                rs.getString("address"),
+                rs.getTimestamp("start_date_time").toLocalDateTime(),
+                rs.getDouble("price"),
+                rs.getInt("priority"),
+                rs.getBoolean("main_event"),
+                rs.getBoolean("promoted"),
+                rs.getInt("attendee_count"),
+                rs.getInt("saved_count"),
+                category != null ? Category.valueOf(category) : null
+        );
+    }
+
+    // Collects the rows of the current event and writes it once the cursor moves past it
+    private static final class Folder {
+
+        private final RecordWriter writer;
+        private EventRow current;
+        private final Set<Category> categories = EnumSet.noneOf(Category.class);
+        private long written;
+
+        Folder(RecordWriter writer) {
+            this.writer = writer;
+        }
+
+        void accept(ResultSet rs) throws SQLException {
+            EventRow row = toRow(rs);
+            if (current != null && !current.id().equals(row.id())) {
+                emit();
+            }
+            if (current == null) {
+                current = row;
+            }
+            if (row.category() != null) {
+                categories.add(row.category());
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                emit();
+            }
+        }
+
+        private void emit() {
+            try {
+                writer.write(new EventDto(current, categories));
+                if (++written % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+            categories.clear();
+        }
+    }
+
+    private interface RecordWriter {
+
+        void write(EventDto event) throws IOException;
+
+        // Pushes everything written so far through to the client
+        void flush() throws IOException;
+    }
+
+    private static final class NdjsonWriter implements RecordWriter {
+
+        private final SequenceWriter sequence;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.sequence = objectMapper.writerFor(EventDto.class).withRootValueSeparator("\n").writeValues(out);
+        }
+
+        @Override
+        public void write(EventDto event) throws IOException {
+            sequence.write(event);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            sequence.flush();
+        }
+    }
+
+    private static final class CsvWriter implements RecordWriter {
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(EventDto event) throws IOException {
+            String categories = event.getCategories().stream().map(Category::name).sorted().collect(Collectors.joining("|"));
+            writer.write(String.join(",",
+                    String.valueOf(event.getId()),
+                    quote(event.getName()),
+                    quote(event.getDescription()),
+                    quote(event.getImageUrl()),
+                    quote(event.getAddress()),
+                    event.getStartDateTime().toString(),
+                    String.valueOf(event.getPrice()),
+                    event.getCity().name(),
+                    categories,
+                    String.valueOf(event.getPriority()),
+                    String.valueOf(event.isMainEvent()),
+                    String.valueOf(event.isPromoted()),
+                    String.valueOf(event.getAttendeeCount()),
+                    String.valueOf(event.getSavedCount())));
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String quote(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import com.example.eventsAmoBE.event.model.Event;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Claims contiguous event ids from {@code event_seq} in whole blocks, compatible with Hibernate's pooled optimizer:
+ * reading {@code next_val = v} owns ids {@code v - blockSize + 1 .. v}, so advancing it by several blocks owns them
+ * all. The claim commits on its own, so regular event creation isn't blocked for the length of an import.
+ */
+@Component
+public class EventIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate claimTransaction;
+
+    public EventIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return the first of {@code count} consecutive ids now reserved for the caller
+     */
+    public long allocate(int count) {
+        int blockSize = Event.ID_ALLOCATION_SIZE;
+        long blocks = (count + blockSize - 1) / blockSize;
+        Long first = claimTransaction.execute(status -> {
+            Long next = jdbcTemplate.queryForObject("SELECT next_val FROM event_seq FOR UPDATE", Long.class);
+            jdbcTemplate.update("UPDATE event_seq SET next_val = ?", next + blocks * blockSize);
+            return next - blockSize + 1;
+        });
+        return first;
+    }
+}
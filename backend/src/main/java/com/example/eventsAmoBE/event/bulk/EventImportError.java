@@ -0,0 +1,9 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import java.util.List;
+
+/**
+ * Why one line of an import was rejected; lines are numbered from 1, counting the CSV header.
+ */
+public record EventImportError(long line, List<String> messages) {
+}
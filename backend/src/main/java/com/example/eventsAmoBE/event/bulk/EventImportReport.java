@@ -0,0 +1,6 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import java.util.List;
+
+public record EventImportReport(int received, int imported, List<EventImportError> errors) {
+}
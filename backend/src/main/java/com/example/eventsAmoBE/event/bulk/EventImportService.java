@@ -0,0 +1,316 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import com.example.eventsAmoBE.event.catalog.EventCatalogBatch;
+import com.example.eventsAmoBE.event.catalog.EventCatalogChange;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.CreateEventDto;
+import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.exceptions.BatchTooLargeException;
+import com.example.eventsAmoBE.exceptions.EventNotValidException;
+import com.example.eventsAmoBE.validators.EventValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports events from NDJSON (one {@link CreateEventDto} object per line) or CSV (a header row naming the same
+ * fields, categories separated by {@code |}).
+ * <p>
+ * Every row goes through bean validation and the {@link EventValidator}; rejected rows are reported by line and
+ * skipped. The valid ones get a block of ids claimed up front and are written with multi-row INSERT statements, events
+ * and categories alike, in one transaction. The catalog caches are then updated in a single pass.
+ */
+@Service
+public class EventImportService {
+
+    private static final int EVENTS_PER_STATEMENT = 500;
+    private static final int CATEGORIES_PER_STATEMENT = 1000;
+    private static final String EVENT_COLUMNS =
+            "INSERT INTO event (id, name, description, image_url, address, start_date_time, price, city, priority, main_event, promoted) VALUES ";
+    private static final String EVENT_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventIdAllocator eventIdAllocator;
+    private final Validator validator;
+    private final EventValidator eventValidator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRows;
+
+    public EventImportService(
+            JdbcTemplate jdbcTemplate,
+            EventIdAllocator eventIdAllocator,
+            Validator validator,
+            EventValidator eventValidator,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${events.import.max-rows:20000}") int maxRows
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventIdAllocator = eventIdAllocator;
+        this.validator = validator;
+        this.eventValidator = eventValidator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.maxRows = maxRows;
+    }
+
+    @Transactional
+    public EventImportReport execute(InputStream body, boolean csv) throws IOException {
+        Rows rows = new Rows();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            if (csv) {
+                CsvRecordReader records = new CsvRecordReader(reader);
+                String[] header = readHeader(records.next());
+                CsvRecord record;
+                while ((record = records.next()) != null) {
+                    CsvRecord current = record;
+                    if (!current.isBlank()) {
+                        rows.add(current.line(), () -> fromCsv(header, current));
+                    }
+                }
+            } else {
+                long line = 0;
+                String text;
+                while ((text = reader.readLine()) != null) {
+                    line++;
+                    String current = text;
+                    if (!current.isBlank()) {
+                        rows.add(line, () -> objectMapper.readValue(current, CreateEventDto.class));
+                    }
+                }
+            }
+        }
+
+        if (!rows.valid.isEmpty()) {
+            List<EventDto> imported = insert(rows.valid);
+            eventPublisher.publishEvent(new EventCatalogBatch(
+                    imported.stream().map(event -> EventCatalogChange.upserted(event, null)).toList()));
+        }
+        return new EventImportReport(rows.received, rows.valid.size(), rows.errors);
+    }
+
+    private List<String> validate(CreateEventDto row) {
+        List<String> problems = new ArrayList<>();
+        for (ConstraintViolation<CreateEventDto> violation : validator.validate(row)) {
+            problems.add(violation.getMessage());
+        }
+        if (problems.isEmpty()) {
+            try {
+                eventValidator.validateCreateEvent(row);
+            } catch (EventNotValidException e) {
+                problems.add(e.getMessage());
+            }
+        }
+        return problems;
+    }
+
+    private List<EventDto> insert(List<CreateEventDto> rows) {
+        long firstId = eventIdAllocator.allocate(rows.size());
+        List<EventDto> imported = new ArrayList<>(rows.size());
+        List<Object[]> categories = new ArrayList<>();
+
+        for (int from = 0; from < rows.size(); from += EVENTS_PER_STATEMENT) {
+            List<CreateEventDto> chunk = rows.subList(from, Math.min(from + EVENTS_PER_STATEMENT, rows.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 11);
+            for (int i = 0; i < chunk.size(); i++) {
+                CreateEventDto row = chunk.get(i);
+                long id = firstId + from + i;
+                args.addAll(Arrays.asList(id, row.getName(), row.getDescription(), row.getImageUrl(), row.getAddress(),
+                        Timestamp.valueOf(row.getStartDateTime()), row.getPrice(), row.getCity().name(),
+                        row.getPriority(), row.isMainEvent(), row.isPromoted()));
+                row.getCategories().forEach(category -> categories.add(new Object[]{id, category.name()}));
+                imported.add(toDto(id, row));
+            }
+            jdbcTemplate.update(EVENT_COLUMNS + String.join(", ", Collections.nCopies(chunk.size(), EVENT_VALUES)),
+                    args.toArray());
+        }
+
+        for (int from = 0; from < categories.size(); from += CATEGORIES_PER_STATEMENT) {
+            List<Object[]> chunk = categories.subList(from, Math.min(from + CATEGORIES_PER_STATEMENT, categories.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            chunk.forEach(pair -> args.addAll(Arrays.asList(pair)));
+            jdbcTemplate.update("INSERT INTO event_categories (event_id, category) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)")), args.toArray());
+        }
+        return imported;
+    }
+
+    private static EventDto toDto(long id, CreateEventDto row) {
+        return new EventDto(Event.builder()
+                .id(id)
+                .name(row.getName())
+                .description(row.getDescription())
+                .imageUrl(row.getImageUrl())
+                .address(row.getAddress())
+                .startDateTime(row.getStartDateTime())
+                .price(row.getPrice())
+                .city(row.getCity())
+                .categories(row.getCategories())
+                .priority(row.getPriority())
+                .mainEvent(row.isMainEvent())
+                .promoted(row.isPromoted())
+                .build());
+    }
+
+    private static String[] readHeader(CsvRecord header) {
+        if (header == null) {
+            return new String[0];
+        }
+        return header.cells().stream().map(cell -> cell.replace("\uFEFF", "").trim()).toArray(String[]::new);
+    }
+
+    // Empty cells are left out so the DTO keeps its defaults and validation reports missing required fields
+    private CreateEventDto fromCsv(String[] header, CsvRecord record) {
+        if (!record.complete()) {
+            throw new IllegalArgumentException("quoted field is never closed");
+        }
+        List<String> cells = record.cells();
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < header.length && i < cells.size(); i++) {
+            String cell = cells.get(i).trim();
+            if (cell.isEmpty()) {
+                continue;
+            }
+            fields.put(header[i], "categories".equals(header[i])
+                    ? Arrays.stream(cell.split("\\|")).map(String::trim).map(Category::valueOf).toList()
+                    : cell);
+        }
+        return objectMapper.convertValue(fields, CreateEventDto.class);
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        CreateEventDto parse() throws IOException;
+    }
+
+    /**
+     * Rows read so far, split into the valid ones and per-line errors.
+     */
+    private final class Rows {
+        private final List<CreateEventDto> valid = new ArrayList<>();
+        private final List<EventImportError> errors = new ArrayList<>();
+        private int received;
+
+        void add(long line, RowParser parser) {
+            if (++received > maxRows) {
+                throw new BatchTooLargeException();
+            }
+            try {
+                CreateEventDto row = parser.parse();
+                List<String> problems = validate(row);
+                if (problems.isEmpty()) {
+                    valid.add(row);
+                } else {
+                    errors.add(new EventImportError(line, problems));
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                errors.add(new EventImportError(line, List.of("Unreadable row: " + e.getMessage())));
+            }
+        }
+    }
+
+    /**
+     * One CSV record and the line it starts on; {@code complete} is false when the input ended inside a quoted field.
+     */
+    private record CsvRecord(long line, List<String> cells, boolean complete) {
+
+        boolean isBlank() {
+            return cells.size() == 1 && cells.get(0).isBlank();
+        }
+    }
+
+    /**
+     * Reads CSV records; fields may be double-quoted, with {@code ""} for a literal quote, and a quoted field may span
+     * lines, as the export writes descriptions containing line breaks.
+     */
+    private static final class CsvRecordReader {
+
+        private static final int NONE = -2;
+
+        private final Reader reader;
+        private int pending = NONE;
+        private long nextLine = 1;
+
+        CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        CsvRecord next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            long line = nextLine;
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            for (; c != -1; c = read()) {
+                if (quoted) {
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            cell.append('"');
+                        } else {
+                            quoted = false;
+                            pending = following;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            nextLine++;
+                        }
+                        cell.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            pending = following;
+                        }
+                    }
+                    nextLine++;
+                    break;
+                } else {
+                    cell.append((char) c);
+                }
+            }
+            cells.add(cell.toString());
+            return new CsvRecord(line, cells, !quoted);
+        }
+
+        private int read() throws IOException {
+            if (pending != NONE) {
+                int c = pending;
+                pending = NONE;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.eventsAmoBE.event.catalog;
+
+/**
+ * Identifies what the {@link UpcomingEventIndex} serves at a given moment: the snapshot version plus how many of its
+ * events have started since it was built. Either part changing means listings may differ.
+ */
+public record CatalogRevision(long version, int started, long lastModified) {
+
+    public String etag() {
+        return "\"" + version + "." + started + "\"";
+    }
+
+    /**
+     * Tag for a response that also carries per-user state, identified by its version.
+     */
+    public String etag(long userVersion) {
+        return "\"" + version + "." + started + "." + userVersion + "\"";
+    }
+}
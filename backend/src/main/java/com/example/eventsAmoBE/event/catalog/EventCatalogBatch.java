@@ -0,0 +1,9 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import java.util.List;
+
+/**
+ * Several {@link EventCatalogChange}s published together, so listeners can apply them in one pass.
+ */
+public record EventCatalogBatch(List<EventCatalogChange> changes) {
+}
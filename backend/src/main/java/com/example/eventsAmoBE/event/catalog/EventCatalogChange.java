@@ -0,0 +1,23 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.model.EventDto;
+
+/**
+ * Published by the event write services whenever an event is created, updated or deleted.
+ * A {@code null} event means the event with {@code eventId} no longer exists; {@code previous} is the state the event
+ * was listed with before the change, or {@code null} if it wasn't listed as upcoming.
+ */
+public record EventCatalogChange(Long eventId, EventDto event, EventDto previous) {
+
+    public static EventCatalogChange upserted(EventDto event, EventDto previous) {
+        return new EventCatalogChange(event.getId(), event, previous);
+    }
+
+    public static EventCatalogChange deleted(Long eventId, EventDto previous) {
+        return new EventCatalogChange(eventId, null, previous);
+    }
+
+    public boolean isDeleted() {
+        return event == null;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attendee and saved counters of events, denormalized onto the {@code event} table.
+ * <p>
+ * Toggles only bump a per-event {@link LongAdder} once their transaction commits, so concurrent toggles on a popular
+ * event don't contend on its row. Accumulated deltas are written in one batched UPDATE on a schedule, and the indexed
+ * events are refreshed with the resulting counts. A nightly job recomputes the counters from the join tables to repair
+ * any drift, e.g. from cascading user deletions or deltas lost in a crash.
+ */
+@Slf4j
+@Component
+public class EventCounters {
+
+    private static final String APPLY_DELTAS = """
+            UPDATE event
+            SET attendee_count = GREATEST(attendee_count + ?, 0), saved_count = GREATEST(saved_count + ?, 0)
+            WHERE id = ?""";
+
+    private static final String FIND_DRIFTED = """
+            SELECT id, attendees, saved
+            FROM (
+                SELECT e.id, e.attendee_count, e.saved_count,
+                    (SELECT COUNT(*) FROM user_attending_events a WHERE a.event_id = e.id) AS attendees,
+                    (SELECT COUNT(*) FROM user_saved_events s WHERE s.event_id = e.id) AS saved
+                FROM event e
+            ) counted
+            WHERE attendees <> attendee_count OR saved <> saved_count""";
+
+    private static final String SET_COUNTS = "UPDATE event SET attendee_count = ?, saved_count = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> attendeeDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> savedDeltas = new ConcurrentHashMap<>();
+
+    public EventCounters(JdbcTemplate jdbcTemplate, UpcomingEventIndex upcomingEventIndex,
+                         ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void attendeeAdded(Long eventId) {
+        record(attendeeDeltas, eventId, 1);
+    }
+
+    public void attendeeRemoved(Long eventId) {
+        record(attendeeDeltas, eventId, -1);
+    }
+
+    public void saveAdded(Long eventId) {
+        record(savedDeltas, eventId, 1);
+    }
+
+    public void saveRemoved(Long eventId) {
+        record(savedDeltas, eventId, -1);
+    }
+
+    @Scheduled(fixedDelayString = "${events.counters.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, int[]> deltas = drain();
+        if (!deltas.isEmpty() && write(deltas)) {
+            refreshIndexed(deltas.keySet());
+        }
+    }
+
+    // Nothing is published on shutdown, the deltas only need to reach the database
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        Map<Long, int[]> deltas = drain();
+        if (!deltas.isEmpty()) {
+            write(deltas);
+        }
+    }
+
+    /**
+     * Recomputes every counter from the join tables and corrects the rows that drifted. A toggle committed while
+     * the counts are being taken may be counted twice until the next run.
+     */
+    @Scheduled(cron = "${events.counters.reconcile-cron:0 30 3 * * *}")
+    public synchronized void reconcile() {
+        flush();
+
+        List<Object[]> drifted = jdbcTemplate.query(FIND_DRIFTED, (rs, rowNum) ->
+                new Object[]{rs.getInt("attendees"), rs.getInt("saved"), rs.getLong("id")});
+        if (drifted.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SET_COUNTS, drifted));
+        log.info("Reconciled counters of {} events", drifted.size());
+
+        Set<Long> ids = new HashSet<>();
+        drifted.forEach(row -> ids.add((Long) row[2]));
+        refreshIndexed(ids);
+    }
+
+    private boolean write(Map<Long, int[]> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta[0], delta[1], id}));
+        try {
+            // All or nothing, so deltas put back after a failure were not partly applied already
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(APPLY_DELTAS, args));
+            return true;
+        } catch (DataAccessException | TransactionException e) {
+            // Put the deltas back so the next run retries them
+            deltas.forEach((id, delta) -> {
+                adder(attendeeDeltas, id).add(delta[0]);
+                adder(savedDeltas, id).add(delta[1]);
+            });
+            log.warn("Flushing counters of {} events failed, will retry", deltas.size(), e);
+            return false;
+        }
+    }
+
+    // Delta is applied only once the toggle is durable; a rolled back toggle leaves the counters alone
+    private void record(Map<Long, LongAdder> deltas, Long eventId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adder(deltas, eventId).add(delta);
+                }
+            });
+        } else {
+            adder(deltas, eventId).add(delta);
+        }
+    }
+
+    private static LongAdder adder(Map<Long, LongAdder> deltas, Long eventId) {
+        return deltas.computeIfAbsent(eventId, id -> new LongAdder());
+    }
+
+    // Adders stay in the maps once created, so an increment racing the drain lands in the next flush instead of a
+    // discarded adder
+    private Map<Long, int[]> drain() {
+        Map<Long, int[]> drained = new HashMap<>();
+        attendeeDeltas.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.computeIfAbsent(id, key -> new int[2])[0] = (int) delta;
+            }
+        });
+        savedDeltas.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.computeIfAbsent(id, key -> new int[2])[1] = (int) delta;
+            }
+        });
+        return drained;
+    }
+
+    // Reads the counts back rather than adding the deltas, so increments flushed by other instances show up too. Only
+    // the counts are published; listeners merge them onto their current entries.
+    private void refreshIndexed(Set<Long> ids) {
+        List<Long> indexed = ids.stream().filter(id -> upcomingEventIndex.find(id).isPresent()).toList();
+        if (indexed.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(indexed.size(), "?"));
+        Map<Long, EventCountsChange.Counts> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT id, attendee_count, saved_count FROM event WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    counts.put(rs.getLong("id"),
+                            new EventCountsChange.Counts(rs.getInt("attendee_count"), rs.getInt("saved_count")));
+                },
+                indexed.toArray());
+
+        if (!counts.isEmpty()) {
+            eventPublisher.publishEvent(new EventCountsChange(counts));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import java.util.Map;
+
+/**
+ * New attendee and saved counts of events, by id. Listeners merge them onto the entries they currently hold instead of
+ * replacing those with a copy, so an edit of the same event committed meanwhile is never rolled back.
+ */
+public record EventCountsChange(Map<Long, Counts> counts) {
+
+    public record Counts(int attendees, int saved) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.EventCursor;
+import com.example.eventsAmoBE.utils.PageResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches listing pages computed from the {@link UpcomingEventIndex}.
+ * <p>
+ * Keys carry a quantized "now" bucket, and an entry lives until the end of its bucket or until the next indexed event
+ * starts, whichever comes first. No page can hold an event starting earlier than that, so expired events never leak.
+ * Catalog changes evict only the entries whose list the changed event was or now is part of.
+ */
+@Component
+public class EventPageCache {
+
+    public enum ListKind { UPCOMING, FILTERED, MAIN, PROMOTED }
+
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final long bucketSeconds;
+    private final Cache<Key, Entry> cache;
+
+    // Bumped on every eviction; a page computed across one is returned but not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public EventPageCache(
+            UpcomingEventIndex upcomingEventIndex,
+            @Value("${events.page-cache.bucket-seconds:60}") long bucketSeconds,
+            @Value("${events.page-cache.maximum-size:1000}") long maximumSize
+    ) {
+        this(upcomingEventIndex, bucketSeconds, maximumSize, Ticker.systemTicker());
+    }
+
+    // Tests drive expiry with their own ticker
+    EventPageCache(UpcomingEventIndex upcomingEventIndex, long bucketSeconds, long maximumSize, Ticker ticker) {
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.bucketSeconds = bucketSeconds;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public PageResponse<EventDto> get(
+            ListKind kind,
+            City city,
+            Category category,
+            Pageable pageable,
+            EventCursor after,
+            boolean withTotals,
+            LocalDateTime now,
+            Supplier<PageResponse<EventDto>> loader
+    ) {
+        long bucket = now.toEpochSecond(ZoneOffset.UTC) / bucketSeconds;
+        Key key = new Key(kind, city, category, pageable.getPageNumber(), pageable.getPageSize(), after, withTotals, bucket);
+
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.page();
+        }
+
+        long observed = generation.get();
+        PageResponse<EventDto> page = loader.get();
+
+        LocalDateTime expiresAt = LocalDateTime.ofEpochSecond((bucket + 1) * bucketSeconds, 0, ZoneOffset.UTC);
+        LocalDateTime nextStart = upcomingEventIndex.nextStart(now).orElse(expiresAt);
+        if (nextStart.isBefore(expiresAt)) {
+            expiresAt = nextStart;
+        }
+
+        Duration ttl = Duration.between(now, expiresAt);
+        if (!ttl.isNegative() && !ttl.isZero() && generation.get() == observed) {
+            cache.asMap().putIfAbsent(key, new Entry(page, ttl.toNanos()));
+        }
+        return page;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(EventCatalogChange change) {
+        evict(List.of(change));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBatch(EventCatalogBatch batch) {
+        evict(batch.changes());
+    }
+
+    // Runs after the index has merged the counts; list membership doesn't change, so the current entries tell which
+    // pages are affected
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountsChange(EventCountsChange change) {
+        evictListing(change.counts().keySet().stream()
+                .map(upcomingEventIndex::find)
+                .flatMap(Optional::stream)
+                .toList());
+    }
+
+    private void evict(List<EventCatalogChange> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventDto> affected = new ArrayList<>();
+        for (EventCatalogChange change : changes) {
+            if (change.previous() != null) {
+                affected.add(change.previous());
+            }
+            if (!change.isDeleted() && UpcomingEventIndex.isUpcoming(change.event(), now)) {
+                affected.add(change.event());
+            }
+        }
+        evictListing(affected);
+    }
+
+    private void evictListing(List<EventDto> affected) {
+        if (affected.isEmpty()) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> affected.stream().anyMatch(key::lists));
+    }
+
+    private record Key(
+            ListKind kind,
+            City city,
+            Category category,
+            int page,
+            int size,
+            EventCursor after,
+            boolean withTotals,
+            long bucket
+    ) {
+
+        boolean lists(EventDto event) {
+            return switch (kind) {
+                case UPCOMING -> true;
+                case FILTERED -> (city == null || city == event.getCity())
+                        && (category == null || event.getCategories().contains(category));
+                case MAIN -> event.isMainEvent();
+                case PROMOTED -> event.isPromoted();
+            };
+        }
+    }
+
+    private record Entry(PageResponse<EventDto> page, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
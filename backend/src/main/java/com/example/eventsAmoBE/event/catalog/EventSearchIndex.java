@@ -0,0 +1,424 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.EventCursor;
+import com.example.eventsAmoBE.utils.PageResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over the name and description of upcoming events, ranked with BM25F.
+ * <p>
+ * Every query token must match each returned event, either as a whole term, as a term prefix or, for tokens of at
+ * least three characters, anywhere inside a term (found through a trigram dictionary). Whole-term matches score
+ * highest; names weigh more than descriptions.
+ * <p>
+ * Ranking a broad query touches every matching posting, so the ranked list is cached per query and index generation;
+ * further pages of the same query only seek into it. The cache holds ranking keys, not events, so counter refreshes
+ * don't invalidate it, and events that started since the ranking are skipped while a page is collected.
+ */
+@Slf4j
+@Component
+public class EventSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double NAME_BOOST = 2.0;
+    private static final double DESCRIPTION_BOOST = 1.0;
+    private static final double PREFIX_WEIGHT = 0.8;
+    private static final double INFIX_WEIGHT = 0.5;
+    private static final int GRAM = 3;
+    private static final Comparator<Hit> RESULT_ORDER = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Hit::start)
+            .thenComparingLong(Hit::eventId);
+
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Map<Long, Postings>> postingsByTerm = new TreeMap<>();
+    private final Map<String, Set<String>> termsByGram = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalNameLength;
+    private long totalDescriptionLength;
+    private boolean loaded;
+    // Bumped by every write that can change rankings; cached rankings of older generations are never read again
+    private long generation;
+
+    private final Cache<RankingKey, Ranking> rankings;
+
+    public EventSearchIndex(
+            UpcomingEventIndex upcomingEventIndex,
+            @Value("${events.search.ranking-cache.maximum-hits:500000}") long maximumCachedHits
+    ) {
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.rankings = Caffeine.newBuilder()
+                .maximumWeight(maximumCachedHits)
+                .<RankingKey, Ranking>weigher((key, ranking) -> ranking.hits().length + 1)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm.clear();
+            termsByGram.clear();
+            documents.clear();
+            totalNameLength = 0;
+            totalDescriptionLength = 0;
+            upcomingEventIndex.all().forEach(this::add);
+            generation++;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Event search index built over {} events", documents.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(EventCatalogChange change) {
+        apply(List.of(change));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBatch(EventCatalogBatch batch) {
+        apply(batch.changes());
+    }
+
+    // Counts aren't searched, so only the returned events change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountsChange(EventCountsChange change) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            change.counts().forEach((eventId, counts) -> documents.computeIfPresent(eventId, (id, document) ->
+                    document.withEvent(document.event().withCounts(counts.attendees(), counts.saved()))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(List<EventCatalogChange> changes) {
+        ensureLoaded();
+        LocalDateTime now = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            for (EventCatalogChange change : changes) {
+                remove(change.eventId());
+                if (!change.isDeleted() && UpcomingEventIndex.isUpcoming(change.event(), now)) {
+                    add(change.event());
+                }
+            }
+            generation++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.index.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            List<Long> expired = documents.values().stream()
+                    .filter(document -> !UpcomingEventIndex.isUpcoming(document.event(), now))
+                    .map(document -> document.event().getId())
+                    .toList();
+            if (!expired.isEmpty()) {
+                expired.forEach(this::remove);
+                generation++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks upcoming events against {@code text}. Results are ordered by relevance, then start time. A cursor carries
+     * the score of the last event seen and resumes right after that position, even if the event itself is gone since.
+     * Scores shift slightly when the catalog changes between pages, as with any relevance-ordered paging.
+     */
+    public PageResponse<EventDto> search(String text, Pageable pageable, EventCursor after, boolean withTotals, LocalDateTime now) {
+        ensureLoaded();
+        List<String> tokens = EventTextAnalyzer.tokenize(text).stream().distinct().toList();
+        if (after != null) {
+            after.requireScore();
+        }
+
+        int size = pageable.getPageSize();
+        List<Hit> page = new ArrayList<>(size);
+        List<EventDto> content = new ArrayList<>(size);
+        boolean hasNext = false;
+        long total;
+
+        lock.readLock().lock();
+        try {
+            Ranking ranking = ranking(tokens);
+            Hit[] hits = ranking.hits();
+            long skip = after != null ? 0 : pageable.getOffset();
+
+            for (int i = after != null ? firstAfter(hits, after) : 0; i < hits.length; i++) {
+                Document document = documents.get(hits[i].eventId());
+                if (document == null || !UpcomingEventIndex.isUpcoming(document.event(), now)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else if (content.size() < size) {
+                    page.add(hits[i]);
+                    content.add(document.event());
+                } else {
+                    hasNext = true;
+                    break;
+                }
+            }
+            total = withTotals ? ranking.upcomingCount(now) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Hit last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext && last != null
+                ? EventCursor.byRelevance(content.get(content.size() - 1), last.score()).encode()
+                : null;
+
+        return new PageResponse<>(
+                content,
+                after != null ? 0 : pageable.getPageNumber(),
+                size,
+                withTotals ? total : null,
+                withTotals ? (size == 0 ? 1 : (int) Math.ceil((double) total / size)) : null,
+                content.size(),
+                !hasNext,
+                hasNext,
+                nextCursor
+        );
+    }
+
+    // Position of the first hit ranked strictly after the cursor
+    private static int firstAfter(Hit[] hits, EventCursor after) {
+        int low = 0;
+        int high = hits.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Hit hit = hits[mid];
+            if (after.compareByRelevance(hit.start(), hit.eventId(), hit.score()) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Called under the read lock, so the generation matches the postings being ranked
+    private Ranking ranking(List<String> tokens) {
+        return rankings.get(new RankingKey(tokens, generation), key -> rank(tokens));
+    }
+
+    // Every matching event, including ones that started but aren't evicted yet, in result order
+    private Ranking rank(List<String> tokens) {
+        if (tokens.isEmpty() || documents.isEmpty()) {
+            return Ranking.EMPTY;
+        }
+
+        Map<Long, Double> scores = null;
+        for (String token : tokens) {
+            Map<Long, Double> tokenScores = new HashMap<>();
+            expand(token).forEach((term, weight) -> {
+                Map<Long, Postings> postings = postingsByTerm.get(term);
+                double idf = idf(postings.size());
+                postings.forEach((eventId, posting) -> {
+                    double score = weight * idf * bm25(posting, documents.get(eventId));
+                    tokenScores.merge(eventId, score, Math::max);
+                });
+            });
+
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((eventId, score) -> score + tokenScores.get(eventId));
+            }
+            if (scores.isEmpty()) {
+                return Ranking.EMPTY;
+            }
+        }
+
+        Hit[] hits = scores.entrySet().stream()
+                .map(entry -> new Hit(entry.getKey(), documents.get(entry.getKey()).event().getStartDateTime(), entry.getValue()))
+                .sorted(RESULT_ORDER)
+                .toArray(Hit[]::new);
+        LocalDateTime[] starts = Arrays.stream(hits).map(Hit::start).sorted().toArray(LocalDateTime[]::new);
+        return new Ranking(hits, starts);
+    }
+
+    /**
+     * Index terms matching a query token, with the weight of that kind of match.
+     */
+    private Map<String, Double> expand(String token) {
+        Map<String, Double> terms = new HashMap<>();
+
+        if (token.length() >= GRAM) {
+            Set<String> candidates = null;
+            for (String gram : grams(token)) {
+                Set<String> withGram = termsByGram.getOrDefault(gram, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(withGram);
+                } else {
+                    candidates.retainAll(withGram);
+                }
+            }
+            for (String term : candidates) {
+                if (term.contains(token)) {
+                    terms.put(term, INFIX_WEIGHT);
+                }
+            }
+        }
+
+        for (String term : postingsByTerm.subMap(token, true, token + Character.MAX_VALUE, false).keySet()) {
+            terms.put(term, PREFIX_WEIGHT);
+        }
+        if (postingsByTerm.containsKey(token)) {
+            terms.put(token, 1.0);
+        }
+        return terms;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double bm25(Postings posting, Document document) {
+        double averageName = Math.max(1.0, (double) totalNameLength / documents.size());
+        double averageDescription = Math.max(1.0, (double) totalDescriptionLength / documents.size());
+        return NAME_BOOST * saturate(posting.nameFrequency(), document.nameLength(), averageName)
+                + DESCRIPTION_BOOST * saturate(posting.descriptionFrequency(), document.descriptionLength(), averageDescription);
+    }
+
+    private static double saturate(int frequency, int length, double averageLength) {
+        if (frequency == 0) {
+            return 0;
+        }
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private void add(EventDto event) {
+        List<String> nameTokens = EventTextAnalyzer.tokenize(event.getName());
+        List<String> descriptionTokens = EventTextAnalyzer.tokenize(event.getDescription());
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        nameTokens.forEach(term -> frequencies.computeIfAbsent(term, t -> new int[2])[0]++);
+        descriptionTokens.forEach(term -> frequencies.computeIfAbsent(term, t -> new int[2])[1]++);
+
+        frequencies.forEach((term, counts) -> {
+            Map<Long, Postings> postings = postingsByTerm.computeIfAbsent(term, t -> {
+                grams(t).forEach(gram -> termsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(t));
+                return new HashMap<>();
+            });
+            postings.put(event.getId(), new Postings(counts[0], counts[1]));
+        });
+
+        documents.put(event.getId(), new Document(event, nameTokens.size(), descriptionTokens.size(), frequencies.keySet()));
+        totalNameLength += nameTokens.size();
+        totalDescriptionLength += descriptionTokens.size();
+    }
+
+    private void remove(Long eventId) {
+        Document document = documents.remove(eventId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms()) {
+            Map<Long, Postings> postings = postingsByTerm.get(term);
+            postings.remove(eventId);
+            if (postings.isEmpty()) {
+                postingsByTerm.remove(term);
+                for (String gram : grams(term)) {
+                    Set<String> terms = termsByGram.get(gram);
+                    terms.remove(term);
+                    if (terms.isEmpty()) {
+                        termsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+        totalNameLength -= document.nameLength();
+        totalDescriptionLength -= document.descriptionLength();
+    }
+
+    private static List<String> grams(String term) {
+        if (term.length() < GRAM) {
+            return List.of();
+        }
+        List<String> grams = new ArrayList<>(term.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        reload();
+    }
+
+    private record Postings(int nameFrequency, int descriptionFrequency) {
+    }
+
+    private record Document(EventDto event, int nameLength, int descriptionLength, Set<String> terms) {
+
+        Document withEvent(EventDto updated) {
+            return new Document(updated, nameLength, descriptionLength, terms);
+        }
+    }
+
+    private record Hit(long eventId, LocalDateTime start, double score) {
+    }
+
+    private record RankingKey(List<String> tokens, long generation) {
+    }
+
+    /**
+     * Hits in result order, plus their start times sorted so upcoming totals are a binary search.
+     */
+    private record Ranking(Hit[] hits, LocalDateTime[] starts) {
+
+        static final Ranking EMPTY = new Ranking(new Hit[0], new LocalDateTime[0]);
+
+        long upcomingCount(LocalDateTime now) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid].isAfter(now)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return starts.length - low;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.SuggestionDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prefix trie over upcoming event names, addresses and category labels for typeahead.
+ * <p>
+ * Every node stores its best {@link #MAX_SUGGESTIONS} completions ranked by priority and then start time, so a lookup
+ * is a walk down the prefix and a copy of that list. Names and addresses are also reachable from each of their words,
+ * so "fest" finds "Summer Fest".
+ * <p>
+ * The trie is rebuilt on a background thread after catalog changes that touch suggested text or ranking, and once the
+ * earliest event in it has started; lookups keep using the previous trie meanwhile and never wait. Events that started
+ * since the last build are skipped when answering.
+ */
+@Slf4j
+@Component
+public class EventSuggester {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // Completions kept per prefix; the extra ones stand in for events that start before the next rebuild
+    private static final int KEPT_PER_NODE = 2 * MAX_SUGGESTIONS;
+
+    private static final Comparator<Entry> BY_RANK = Comparator.comparingInt(Entry::priority).reversed()
+            .thenComparing(Entry::startDateTime)
+            .thenComparing(Entry::text);
+
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-suggester");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile Trie trie;
+
+    public EventSuggester(UpcomingEventIndex upcomingEventIndex) {
+        this.upcomingEventIndex = upcomingEventIndex;
+    }
+
+    // Runs after the index has applied the change, so the rebuild reads the new catalog
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(EventCatalogChange change) {
+        if (affectsSuggestions(change)) {
+            scheduleRebuild();
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBatch(EventCatalogBatch batch) {
+        if (batch.changes().stream().anyMatch(EventSuggester::affectsSuggestions)) {
+            scheduleRebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Completions of the prefix among events starting after {@code now}, best ranked first.
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit, LocalDateTime now) {
+        String key = toKey(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = currentTrie(now).root();
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(node.top)
+                .filter(entry -> entry.type() == SuggestionDto.Type.CATEGORY || entry.startDateTime().isAfter(now))
+                .limit(Math.min(limit, MAX_SUGGESTIONS))
+                .map(Entry::suggestion)
+                .toList();
+    }
+
+    private Trie currentTrie(LocalDateTime now) {
+        Trie current = trie;
+        if (current == null) {
+            // Only the very first lookup builds in line, there is nothing to serve before that
+            synchronized (this) {
+                if (trie == null) {
+                    trie = Trie.build(upcomingEventIndex.all(), now);
+                }
+                return trie;
+            }
+        }
+        if (current.firstStart() != null && !now.isBefore(current.firstStart())) {
+            scheduleRebuild();
+        }
+        return current;
+    }
+
+    // Requests arriving while a rebuild is queued share it; the flag is cleared before reading, so none is missed
+    private void scheduleRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildQueued.set(false);
+            try {
+                trie = Trie.build(upcomingEventIndex.all(), LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.warn("Rebuilding the suggestion trie failed, keeping the previous one", e);
+            }
+        });
+    }
+
+    // Attendee and saved counts don't show up in suggestions
+    private static boolean affectsSuggestions(EventCatalogChange change) {
+        EventDto previous = change.previous();
+        EventDto event = change.event();
+        if (change.isDeleted() || previous == null) {
+            return true;
+        }
+        return !Objects.equals(previous.getName(), event.getName())
+                || !Objects.equals(previous.getAddress(), event.getAddress())
+                || !Objects.equals(previous.getCategories(), event.getCategories())
+                || previous.getPriority() != event.getPriority()
+                || !Objects.equals(previous.getStartDateTime(), event.getStartDateTime());
+    }
+
+    /**
+     * Normalizes text the way lookups do: no accents, lower case, single spaces between words.
+     */
+    private static String toKey(String text) {
+        return String.join(" ", EventTextAnalyzer.tokenize(text));
+    }
+
+    private record Trie(Node root, LocalDateTime firstStart) {
+
+        static Trie build(List<EventDto> events, LocalDateTime now) {
+            Node root = new Node();
+            Map<Category, Entry> bestByCategory = new EnumMap<>(Category.class);
+            LocalDateTime firstStart = null;
+
+            for (EventDto event : events) {
+                if (!UpcomingEventIndex.isUpcoming(event, now)) {
+                    continue;
+                }
+                if (firstStart == null || event.getStartDateTime().isBefore(firstStart)) {
+                    firstStart = event.getStartDateTime();
+                }
+                Entry name = new Entry(new SuggestionDto(event.getName(), SuggestionDto.Type.EVENT, event.getId()),
+                        event.getPriority(), event.getStartDateTime());
+                insertWords(root, event.getName(), name);
+
+                if (event.getAddress() != null && !event.getAddress().isBlank()) {
+                    Entry address = new Entry(new SuggestionDto(event.getAddress(), SuggestionDto.Type.ADDRESS, event.getId()),
+                            event.getPriority(), event.getStartDateTime());
+                    insertWords(root, event.getAddress(), address);
+                }
+
+                for (Category category : event.getCategories()) {
+                    Entry entry = new Entry(new SuggestionDto(category.name(), SuggestionDto.Type.CATEGORY, null),
+                            event.getPriority(), event.getStartDateTime());
+                    bestByCategory.merge(category, entry, (a, b) -> BY_RANK.compare(a, b) <= 0 ? a : b);
+                }
+            }
+            bestByCategory.values().forEach(entry -> insert(root, toKey(entry.text()), entry));
+
+            root.seal();
+            return new Trie(root, firstStart);
+        }
+
+        private static void insertWords(Node root, String text, Entry entry) {
+            List<String> words = EventTextAnalyzer.tokenize(text);
+            for (int i = 0; i < words.size(); i++) {
+                insert(root, String.join(" ", words.subList(i, words.size())), entry);
+            }
+        }
+
+        private static void insert(Node root, String key, Entry entry) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.candidates.add(entry);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private List<Entry> candidates = new ArrayList<>();
+        private Entry[] top;
+
+        /**
+         * Keeps only the best distinct completions for this prefix and drops build-time state.
+         */
+        void seal() {
+            Set<String> seen = new HashSet<>();
+            top = candidates.stream()
+                    .sorted(BY_RANK)
+                    .filter(entry -> seen.add(entry.type() + ":" + entry.text()))
+                    .limit(KEPT_PER_NODE)
+                    .toArray(Entry[]::new);
+            candidates = null;
+            children.values().forEach(Node::seal);
+        }
+    }
+
+    private record Entry(SuggestionDto suggestion, int priority, LocalDateTime startDateTime) {
+
+        String text() {
+            return suggestion.getText();
+        }
+
+        SuggestionDto.Type type() {
+            return suggestion.getType();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final response bytes of hot anonymous listing pages: the JSON body and its gzip encoding, ready to be copied to the
+ * response. Each entry remembers the {@link CatalogRevision} tag it was serialized at and is rebuilt, once, by the
+ * first request that sees a newer revision, so a hit costs a tag comparison and a byte copy.
+ */
+@Component
+public class HotPageCache {
+
+    public record HotPage(String etag, byte[] json, byte[] gzip) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, HotPage> cache;
+
+    public HotPageCache(ObjectMapper objectMapper, @Value("${events.hot-pages.maximum-size:64}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public HotPage get(String key, CatalogRevision revision, Supplier<?> loader) {
+        String etag = revision.etag();
+        HotPage cached = cache.getIfPresent(key);
+        if (cached != null && cached.etag().equals(etag)) {
+            return cached;
+        }
+        // Concurrent misses on one key wait for a single rebuild
+        return cache.asMap().compute(key, (k, existing) ->
+                existing != null && existing.etag().equals(etag) ? existing : serialize(etag, loader.get()));
+    }
+
+    private HotPage serialize(String etag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new HotPage(etag, json, compressed.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize hot page", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
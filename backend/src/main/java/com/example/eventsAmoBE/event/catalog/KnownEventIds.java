@@ -0,0 +1,59 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of every event in the catalog, past ones included, so writes that reference an event can check it exists
+ * without a query. Kept current through {@link EventCatalogChange}.
+ */
+@Slf4j
+@Component
+public class KnownEventIds {
+
+    private final EventRepository eventRepository;
+    private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    public KnownEventIds(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        Set<Long> current = ConcurrentHashMap.newKeySet();
+        current.addAll(eventRepository.findAllIds());
+        ids.retainAll(current);
+        ids.addAll(current);
+        loaded = true;
+        log.info("Loaded {} known event ids", ids.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(EventCatalogChange change) {
+        if (change.isDeleted()) {
+            ids.remove(change.eventId());
+        } else {
+            ids.add(change.eventId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBatch(EventCatalogBatch batch) {
+        batch.changes().forEach(this::onCatalogChange);
+    }
+
+    public boolean contains(Long eventId) {
+        if (!loaded) {
+            reload();
+        }
+        return eventId != null && ids.contains(eventId);
+    }
+}
@@ -0,0 +1,567 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.utils.EventCursor;
+import com.example.eventsAmoBE.utils.PageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * In-memory view of all upcoming events, serving the public listing endpoints without touching the database.
+ * <p>
+ * Readers work on an immutable {@link Snapshot}; writers (catalog changes, counter refreshes and expiry eviction)
+ * derive a new snapshot from the current one and publish it through a volatile field, so reads never block.
+ * Derived snapshots copy the arrays and patch only the affected positions; sorting from scratch is left to reloads and
+ * large batches.
+ */
+@Slf4j
+@Component
+public class UpcomingEventIndex {
+
+    private static final Comparator<EventDto> BY_START =
+            Comparator.comparing(EventDto::getStartDateTime).thenComparing(EventDto::getId);
+
+    private static final Comparator<EventDto> BY_PRIORITY =
+            Comparator.comparingInt(EventDto::getPriority).reversed().thenComparing(BY_START);
+
+    // Each incremental change costs a copy of the arrays, so beyond this many a batch is cheaper to rebuild
+    private static final int INCREMENTAL_LIMIT = 16;
+
+    private final EventRepository eventRepository;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public UpcomingEventIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventDto> events = EventRow.toDtos(eventRepository.findUpcomingRows(now));
+        snapshot = Snapshot.build(events, versions.incrementAndGet());
+        log.info("Upcoming event index loaded with {} events", events.size());
+    }
+
+    // Applied before any listener that derives data from the index, such as the page cache
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(EventCatalogChange change) {
+        apply(List.of(change));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBatch(EventCatalogBatch batch) {
+        apply(batch.changes());
+    }
+
+    private synchronized void apply(List<EventCatalogChange> changes) {
+        Snapshot current = snapshot();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (changes.size() > INCREMENTAL_LIMIT) {
+            Map<Long, EventDto> events = new HashMap<>(current.positions().size() * 2);
+            for (EventDto event : current.byStart()) {
+                events.put(event.getId(), event);
+            }
+            for (EventCatalogChange change : changes) {
+                events.remove(change.eventId());
+                if (!change.isDeleted() && isUpcoming(change.event(), now)) {
+                    events.put(change.eventId(), change.event());
+                }
+            }
+            snapshot = Snapshot.build(events.values(), versions.incrementAndGet());
+            return;
+        }
+
+        Snapshot next = current;
+        for (EventCatalogChange change : changes) {
+            EventDto previous = next.get(change.eventId());
+            boolean listed = !change.isDeleted() && isUpcoming(change.event(), now);
+            if (previous != null && listed && Snapshot.samePlacement(previous, change.event())) {
+                next = next.replaced(List.of(change.event()));
+            } else {
+                next = next.without(change.eventId());
+                if (listed) {
+                    next = next.with(change.event());
+                }
+            }
+        }
+        if (next != current) {
+            snapshot = next.stamped(versions.incrementAndGet());
+        }
+    }
+
+    // Merged under the lock onto whatever entry is current, so counts never carry an older copy of an event back in
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCountsChange(EventCountsChange change) {
+        Snapshot current = snapshot();
+        List<EventDto> updated = new ArrayList<>();
+        for (Map.Entry<Long, EventCountsChange.Counts> entry : change.counts().entrySet()) {
+            EventDto event = current.get(entry.getKey());
+            EventCountsChange.Counts counts = entry.getValue();
+            if (event != null && (event.getAttendeeCount() != counts.attendees() || event.getSavedCount() != counts.saved())) {
+                updated.add(event.withCounts(counts.attendees(), counts.saved()));
+            }
+        }
+
+        // Counters take no part in any ordering, so every event keeps its positions
+        if (!updated.isEmpty()) {
+            snapshot = current.replaced(updated).stamped(versions.incrementAndGet());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.index.eviction-interval-ms:60000}")
+    public synchronized void evictExpired() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        int expired = current.firstUpcoming(LocalDateTime.now());
+        if (expired > 0) {
+            snapshot = current.evicted(expired).stamped(versions.incrementAndGet());
+            log.debug("Evicted {} expired events from the upcoming event index", expired);
+        }
+    }
+
+    public Optional<EventDto> find(Long eventId) {
+        return Optional.ofNullable(snapshot().get(eventId));
+    }
+
+    /**
+     * Revision of everything served from the index at {@code now}. Last-modified is the later of the snapshot build
+     * time and the start of the most recent event that dropped out of listings by starting.
+     */
+    public CatalogRevision revision(LocalDateTime now) {
+        Snapshot current = snapshot();
+        int started = current.firstUpcoming(now);
+        long lastModified = current.builtAt();
+        if (started > 0) {
+            long lastStart = current.byStart()[started - 1].getStartDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            lastModified = Math.max(lastModified, lastStart);
+        }
+        return new CatalogRevision(current.version(), started, lastModified);
+    }
+
+    /**
+     * Start time of the first event starting after {@code now}, i.e. the next moment any listing changes on its own.
+     */
+    public Optional<LocalDateTime> nextStart(LocalDateTime now) {
+        Snapshot current = snapshot();
+        int next = current.firstUpcoming(now);
+        return next < current.byStart().length ? Optional.of(current.byStart()[next].getStartDateTime()) : Optional.empty();
+    }
+
+    /**
+     * All indexed events in start order, including any that started since the last eviction.
+     */
+    public List<EventDto> all() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot().byStart()));
+    }
+
+    public PageResponse<EventDto> upcoming(Pageable pageable, EventCursor after, boolean withTotals, LocalDateTime now) {
+        Snapshot current = snapshot();
+        int from = current.firstUpcoming(now);
+        int start = after != null ? Math.max(from, current.firstAfter(after)) : from;
+
+        Long total = withTotals ? (long) current.byStart().length - from : null;
+        return collect(current.byStart(), start, i -> true, total, pageable, after, EventCursor::byStart);
+    }
+
+    public PageResponse<EventDto> filtered(City city, Category category, Pageable pageable, EventCursor after, boolean withTotals, LocalDateTime now) {
+        if (city == null && category == null) {
+            return upcoming(pageable, after, withTotals, now);
+        }
+
+        Snapshot current = snapshot();
+        int from = current.firstUpcoming(now);
+        int start = after != null ? Math.max(from, current.firstAfter(after)) : from;
+
+        BitSet cityBits = city != null ? current.byCity().get(city) : null;
+        BitSet categoryBits = category != null ? current.byCategory().get(category) : null;
+        IntPredicate matches = i -> (cityBits == null || cityBits.get(i)) && (categoryBits == null || categoryBits.get(i));
+
+        Long total = withTotals ? current.count(city, category) - countBefore(from, matches) : null;
+        return collect(current.byStart(), start, matches, total, pageable, after, EventCursor::byStart);
+    }
+
+    public PageResponse<EventDto> main(Pageable pageable, EventCursor after, boolean withTotals, LocalDateTime now) {
+        Snapshot current = snapshot();
+        Long total = withTotals
+                ? current.main().length - countBefore(current.firstUpcoming(now), i -> current.byStart()[i].isMainEvent())
+                : null;
+        return byPriority(current.main(), pageable, after, total, now);
+    }
+
+    public PageResponse<EventDto> promoted(Pageable pageable, EventCursor after, boolean withTotals, LocalDateTime now) {
+        Snapshot current = snapshot();
+        Long total = withTotals
+                ? current.promoted().length - countBefore(current.firstUpcoming(now), i -> current.byStart()[i].isPromoted())
+                : null;
+        return byPriority(current.promoted(), pageable, after, total, now);
+    }
+
+    private PageResponse<EventDto> byPriority(EventDto[] events, Pageable pageable, EventCursor after, Long total, LocalDateTime now) {
+        int start = after != null ? firstAfter(events, after::compareByPriority) : 0;
+
+        // Priority ordering can't be binary-searched by date, but expired entries are evicted on a schedule
+        return collect(events, start, i -> isUpcoming(events[i], now), total, pageable, after, EventCursor::byPriority);
+    }
+
+    /**
+     * Counts matching positions among the first {@code from} events, i.e. those already started but not yet evicted.
+     * Precomputed counts include them, so this is subtracted to get upcoming totals.
+     */
+    private static long countBefore(int from, IntPredicate matches) {
+        long count = 0;
+        for (int i = 0; i < from; i++) {
+            if (matches.test(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Walks {@code events} from {@code start}, keeping positions accepted by {@code include}. In offset mode the
+     * first {@code pageable.getOffset()} matches are skipped; in keyset mode {@code start} already points past the cursor.
+     * Collection stops one element past the page, which is enough to answer {@code hasNext}.
+     */
+    private static PageResponse<EventDto> collect(
+            EventDto[] events,
+            int start,
+            IntPredicate include,
+            Long total,
+            Pageable pageable,
+            EventCursor after,
+            Function<EventDto, EventCursor> cursorOf
+    ) {
+        int size = pageable.getPageSize();
+        long skip = after != null ? 0 : pageable.getOffset();
+        List<EventDto> content = new ArrayList<>(size);
+        boolean hasNext = false;
+
+        for (int i = start; i < events.length; i++) {
+            if (!include.test(i)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else if (content.size() < size) {
+                content.add(events[i]);
+            } else {
+                hasNext = true;
+                break;
+            }
+        }
+
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        Integer totalPages = total == null ? null : size == 0 ? 1 : (int) Math.ceil((double) total / size);
+
+        return new PageResponse<>(
+                content,
+                after != null ? 0 : pageable.getPageNumber(),
+                size,
+                total,
+                totalPages,
+                content.size(),
+                !hasNext,
+                hasNext,
+                nextCursor
+        );
+    }
+
+    /**
+     * Position of the first element ordered strictly after the cursor, where {@code compare} is positive only for
+     * elements after it.
+     */
+    private static int firstAfter(EventDto[] events, ToIntFunction<EventDto> compare) {
+        int low = 0;
+        int high = events.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare.applyAsInt(events[mid]) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    static boolean isUpcoming(EventDto event, LocalDateTime now) {
+        return event.getStartDateTime() != null && event.getStartDateTime().isAfter(now);
+    }
+
+    private record Snapshot(
+            long version,
+            long builtAt,
+            EventDto[] byStart,
+            Map<City, BitSet> byCity,
+            Map<Category, BitSet> byCategory,
+            EventDto[] main,
+            EventDto[] promoted,
+            Map<Long, Integer> positions,
+            long[][] counts
+    ) {
+
+        static Snapshot build(Collection<EventDto> events, long version) {
+            EventDto[] byStart = events.stream()
+                    .filter(event -> event.getStartDateTime() != null)
+                    .sorted(BY_START)
+                    .toArray(EventDto[]::new);
+
+            Map<City, BitSet> byCity = new EnumMap<>(City.class);
+            for (City city : City.values()) {
+                byCity.put(city, new BitSet(byStart.length));
+            }
+            Map<Category, BitSet> byCategory = new EnumMap<>(Category.class);
+            for (Category category : Category.values()) {
+                byCategory.put(category, new BitSet(byStart.length));
+            }
+
+            // counts[city ordinal + 1][category ordinal + 1], with row/column 0 standing for "any"
+            long[][] counts = new long[City.values().length + 1][Category.values().length + 1];
+
+            for (int i = 0; i < byStart.length; i++) {
+                EventDto event = byStart[i];
+                if (event.getCity() != null) {
+                    byCity.get(event.getCity()).set(i);
+                }
+                for (Category category : event.getCategories()) {
+                    byCategory.get(category).set(i);
+                }
+                count(counts, event, 1);
+            }
+
+            EventDto[] main = Arrays.stream(byStart).filter(EventDto::isMainEvent).sorted(BY_PRIORITY).toArray(EventDto[]::new);
+            EventDto[] promoted = Arrays.stream(byStart).filter(EventDto::isPromoted).sorted(BY_PRIORITY).toArray(EventDto[]::new);
+
+            return new Snapshot(version, System.currentTimeMillis(), byStart, byCity, byCategory, main, promoted, positions(byStart), counts);
+        }
+
+        /**
+         * Same snapshot under a new version, for publishing the result of a series of changes.
+         */
+        Snapshot stamped(long newVersion) {
+            return new Snapshot(newVersion, System.currentTimeMillis(), byStart, byCity, byCategory, main, promoted, positions, counts);
+        }
+
+        EventDto get(Long eventId) {
+            Integer position = positions.get(eventId);
+            return position != null ? byStart[position] : null;
+        }
+
+        /**
+         * Whether {@code updated} sorts and filters exactly like {@code previous}, so it can take its place in every
+         * array without moving anything.
+         */
+        static boolean samePlacement(EventDto previous, EventDto updated) {
+            return BY_START.compare(previous, updated) == 0
+                    && previous.getPriority() == updated.getPriority()
+                    && previous.isMainEvent() == updated.isMainEvent()
+                    && previous.isPromoted() == updated.isPromoted()
+                    && previous.getCity() == updated.getCity()
+                    && previous.getCategories().equals(updated.getCategories());
+        }
+
+        /**
+         * Swaps in new copies of indexed events that keep their placement; bitsets, counts and positions are shared.
+         */
+        Snapshot replaced(Collection<EventDto> updated) {
+            EventDto[] start = byStart.clone();
+            EventDto[] mainEvents = main;
+            EventDto[] promotedEvents = promoted;
+            for (EventDto event : updated) {
+                int position = positions.get(event.getId());
+                EventDto previous = byStart[position];
+                start[position] = event;
+                if (event.isMainEvent()) {
+                    mainEvents = mainEvents == main ? main.clone() : mainEvents;
+                    mainEvents[Arrays.binarySearch(main, previous, BY_PRIORITY)] = event;
+                }
+                if (event.isPromoted()) {
+                    promotedEvents = promotedEvents == promoted ? promoted.clone() : promotedEvents;
+                    promotedEvents[Arrays.binarySearch(promoted, previous, BY_PRIORITY)] = event;
+                }
+            }
+            return new Snapshot(version, builtAt, start, byCity, byCategory, mainEvents, promotedEvents, positions, counts);
+        }
+
+        Snapshot with(EventDto event) {
+            int position = -Arrays.binarySearch(byStart, event, BY_START) - 1;
+
+            Map<City, BitSet> cities = new EnumMap<>(City.class);
+            byCity.forEach((city, bits) -> cities.put(city, insertBit(bits, position, city == event.getCity())));
+            Map<Category, BitSet> categories = new EnumMap<>(Category.class);
+            byCategory.forEach((category, bits) -> categories.put(category, insertBit(bits, position, event.getCategories().contains(category))));
+
+            long[][] counted = copy(counts);
+            count(counted, event, 1);
+
+            EventDto[] start = inserted(byStart, position, event);
+            EventDto[] mainEvents = event.isMainEvent()
+                    ? inserted(main, -Arrays.binarySearch(main, event, BY_PRIORITY) - 1, event)
+                    : main;
+            EventDto[] promotedEvents = event.isPromoted()
+                    ? inserted(promoted, -Arrays.binarySearch(promoted, event, BY_PRIORITY) - 1, event)
+                    : promoted;
+            return new Snapshot(version, builtAt, start, cities, categories, mainEvents, promotedEvents, positions(start), counted);
+        }
+
+        Snapshot without(Long eventId) {
+            Integer position = positions.get(eventId);
+            if (position == null) {
+                return this;
+            }
+            EventDto event = byStart[position];
+
+            Map<City, BitSet> cities = new EnumMap<>(City.class);
+            byCity.forEach((city, bits) -> cities.put(city, removeBit(bits, position)));
+            Map<Category, BitSet> categories = new EnumMap<>(Category.class);
+            byCategory.forEach((category, bits) -> categories.put(category, removeBit(bits, position)));
+
+            long[][] counted = copy(counts);
+            count(counted, event, -1);
+
+            EventDto[] start = removed(byStart, position);
+            EventDto[] mainEvents = event.isMainEvent() ? removed(main, Arrays.binarySearch(main, event, BY_PRIORITY)) : main;
+            EventDto[] promotedEvents = event.isPromoted() ? removed(promoted, Arrays.binarySearch(promoted, event, BY_PRIORITY)) : promoted;
+            return new Snapshot(version, builtAt, start, cities, categories, mainEvents, promotedEvents, positions(start), counted);
+        }
+
+        /**
+         * Drops the first {@code expired} events by start; the remaining ones keep their relative order everywhere.
+         */
+        Snapshot evicted(int expired) {
+            Map<City, BitSet> cities = new EnumMap<>(City.class);
+            byCity.forEach((city, bits) -> cities.put(city, bits.get(expired, byStart.length)));
+            Map<Category, BitSet> categories = new EnumMap<>(Category.class);
+            byCategory.forEach((category, bits) -> categories.put(category, bits.get(expired, byStart.length)));
+
+            long[][] counted = copy(counts);
+            for (int i = 0; i < expired; i++) {
+                count(counted, byStart[i], -1);
+            }
+
+            EventDto[] start = Arrays.copyOfRange(byStart, expired, byStart.length);
+            EventDto[] mainEvents = Arrays.stream(main).filter(event -> positions.get(event.getId()) >= expired).toArray(EventDto[]::new);
+            EventDto[] promotedEvents = Arrays.stream(promoted).filter(event -> positions.get(event.getId()) >= expired).toArray(EventDto[]::new);
+            return new Snapshot(version, builtAt, start, cities, categories, mainEvents, promotedEvents, positions(start), counted);
+        }
+
+        long count(City city, Category category) {
+            return counts[city != null ? city.ordinal() + 1 : 0][category != null ? category.ordinal() + 1 : 0];
+        }
+
+        /**
+         * Position of the first event starting after {@code now}; everything before it has already started.
+         */
+        int firstUpcoming(LocalDateTime now) {
+            return UpcomingEventIndex.firstAfter(byStart, event -> event.getStartDateTime().isAfter(now) ? 1 : 0);
+        }
+
+        int firstAfter(EventCursor cursor) {
+            return UpcomingEventIndex.firstAfter(byStart, cursor::compareByStart);
+        }
+
+        private static void count(long[][] counts, EventDto event, int delta) {
+            int cityColumn = event.getCity() != null ? event.getCity().ordinal() + 1 : 0;
+            counts[0][0] += delta;
+            if (cityColumn > 0) {
+                counts[cityColumn][0] += delta;
+            }
+            for (Category category : event.getCategories()) {
+                counts[0][category.ordinal() + 1] += delta;
+                if (cityColumn > 0) {
+                    counts[cityColumn][category.ordinal() + 1] += delta;
+                }
+            }
+        }
+
+        private static long[][] copy(long[][] counts) {
+            long[][] copy = new long[counts.length][];
+            for (int i = 0; i < counts.length; i++) {
+                copy[i] = counts[i].clone();
+            }
+            return copy;
+        }
+
+        private static Map<Long, Integer> positions(EventDto[] byStart) {
+            Map<Long, Integer> positions = new HashMap<>(byStart.length * 2);
+            for (int i = 0; i < byStart.length; i++) {
+                positions.put(byStart[i].getId(), i);
+            }
+            return Collections.unmodifiableMap(positions);
+        }
+
+        private static EventDto[] inserted(EventDto[] events, int position, EventDto event) {
+            EventDto[] grown = new EventDto[events.length + 1];
+            System.arraycopy(events, 0, grown, 0, position);
+            grown[position] = event;
+            System.arraycopy(events, position, grown, position + 1, events.length - position);
+            return grown;
+        }
+
+        private static EventDto[] removed(EventDto[] events, int position) {
+            EventDto[] shrunk = new EventDto[events.length - 1];
+            System.arraycopy(events, 0, shrunk, 0, position);
+            System.arraycopy(events, position + 1, shrunk, position, events.length - position - 1);
+            return shrunk;
+        }
+
+        private static BitSet insertBit(BitSet bits, int position, boolean value) {
+            BitSet shifted = bits.get(0, position);
+            shifted.set(position, value);
+            for (int i = bits.nextSetBit(position); i >= 0; i = bits.nextSetBit(i + 1)) {
+                shifted.set(i + 1);
+            }
+            return shifted;
+        }
+
+        private static BitSet removeBit(BitSet bits, int position) {
+            BitSet shifted = bits.get(0, position);
+            for (int i = bits.nextSetBit(position + 1); i >= 0; i = bits.nextSetBit(i + 1)) {
+                shifted.set(i - 1);
+            }
+            return shifted;
+        }
+    }
+}
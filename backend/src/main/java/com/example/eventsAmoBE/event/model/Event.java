@@ -3,6 +3,8 @@ package com.example.eventsAmoBE.event.model;
 import com.example.eventsAmoBE.user.model.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,8 +21,13 @@ import java.util.Set;
 @Table(name = "event")
 public class Event {
 
+    // Ids handed out per block from event_seq; also relied on by EventIdAllocator
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled ids instead of IDENTITY, so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String name;
@@ -36,6 +43,7 @@ public class Event {
 
     @ElementCollection
     @CollectionTable(name = "event_categories", joinColumns = @JoinColumn(name = "event_id"))
+    @BatchSize(size = 50)
     @Enumerated(EnumType.STRING)
     @Column(name = "category")
     @Builder.Default
@@ -45,6 +53,15 @@ public class Event {
     private boolean mainEvent;
     private boolean promoted;
 
+    // Maintained by EventCounters through direct updates; never written from the entity
+    @Column(insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int attendeeCount;
+
+    @Column(insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int savedCount;
+
     @ManyToMany(mappedBy = "attendingEvents")
     @Builder.Default
     private Set<User> attendees = new HashSet<>();
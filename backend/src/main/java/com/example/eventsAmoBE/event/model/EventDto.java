@@ -1,39 +1,97 @@
 package com.example.eventsAmoBE.event.model;
 
-import com.example.eventsAmoBE.user.model.User;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.Set;
 
-@Data
+/**
+ * Immutable view of an event. Instances are shared by the index and the caches, so changes are made through the
+ * {@code with*} copies.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class EventDto {
 
-    private Long id;
-    private String name;
-    private String description;
-    private String imageUrl;
-    private City city;
-    private String address;
-    private LocalDateTime startDateTime;
-    private Double price;
-    private Set<Category> categories;
-    private int priority;
-    private boolean mainEvent;
-    private boolean promoted;
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String imageUrl;
+    private final City city;
+    private final String address;
+    private final LocalDateTime startDateTime;
+    private final Double price;
+    private final Set<Category> categories;
+    private final int priority;
+    private final boolean mainEvent;
+    private final boolean promoted;
+    private final int attendeeCount;
+    private final int savedCount;
+    // Set only on responses to authenticated users; omitted from JSON otherwise
+    private final Boolean saved;
+    private final Boolean attending;
 
     public EventDto(Event event) {
-        this.id = event.getId();
-        this.name = event.getName();
-        this.description = event.getDescription();
-        this.imageUrl = event.getImageUrl();
-        this.city = event.getCity();
-        this.address = event.getAddress();
-        this.startDateTime = event.getStartDateTime();
-        this.price = event.getPrice();
-        this.categories = event.getCategories();
-        this.priority = event.getPriority();
-        this.mainEvent = event.isMainEvent();
-        this.promoted = event.isPromoted();
+        this(
+                event.getId(),
+                event.getName(),
+                event.getDescription(),
+                event.getImageUrl(),
+                event.getCity(),
+                event.getAddress(),
+                event.getStartDateTime(),
+                event.getPrice(),
+                event.getCategories() != null ? Set.copyOf(event.getCategories()) : Set.of(),
+                event.getPriority(),
+                event.isMainEvent(),
+                event.isPromoted(),
+                event.getAttendeeCount(),
+                event.getSavedCount(),
+                null,
+                null
+        );
+    }
+
+    public EventDto(EventRow row, Set<Category> categories) {
+        this(
+                row.id(),
+                row.name(),
+                row.description(),
+                row.imageUrl(),
+                row.city(),
+                row.address(),
+                row.startDateTime(),
+                row.price(),
+                Set.copyOf(categories),
+                row.priority(),
+                row.mainEvent(),
+                row.promoted(),
+                row.attendeeCount(),
+                row.savedCount(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * Copy with different counters; indexed DTOs are shared, so they are replaced rather than modified.
+     */
+    public EventDto withCounts(int attendeeCount, int savedCount) {
+        return new EventDto(id, name, description, imageUrl, city, address, startDateTime, price, categories,
+                priority, mainEvent, promoted, attendeeCount, savedCount, saved, attending);
+    }
+
+    /**
+     * Copy flagged for one user; the shared DTO itself never carries per-user state.
+     */
+    public EventDto withMembership(boolean saved, boolean attending) {
+        return new EventDto(id, name, description, imageUrl, city, address, startDateTime, price, categories,
+                priority, mainEvent, promoted, attendeeCount, savedCount, saved, attending);
     }
 }
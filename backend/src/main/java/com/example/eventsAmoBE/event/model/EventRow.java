@@ -0,0 +1,45 @@
+package com.example.eventsAmoBE.event.model;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Read-only projection of an event joined with one of its categories; an event with several categories spans
+ * several rows, and one without any has a single row with a {@code null} category.
+ */
+public record EventRow(
+        Long id,
+        String name,
+        String description,
+        String imageUrl,
+        City city,
+        String address,
+        LocalDateTime startDateTime,
+        Double price,
+        int priority,
+        boolean mainEvent,
+        boolean promoted,
+        int attendeeCount,
+        int savedCount,
+        Category category
+) {
+
+    /**
+     * Folds rows into one DTO per event, keeping the order in which events first appear.
+     */
+    public static List<EventDto> toDtos(List<EventRow> rows) {
+        Map<Long, EventRow> events = new LinkedHashMap<>();
+        Map<Long, Set<Category>> categories = new HashMap<>();
+        for (EventRow row : rows) {
+            events.putIfAbsent(row.id(), row);
+            Set<Category> eventCategories = categories.computeIfAbsent(row.id(), id -> EnumSet.noneOf(Category.class));
+            if (row.category() != null) {
+                eventCategories.add(row.category());
+            }
+        }
+
+        List<EventDto> dtos = new ArrayList<>(events.size());
+        events.forEach((id, row) -> dtos.add(new EventDto(row, categories.get(id))));
+        return dtos;
+    }
+}
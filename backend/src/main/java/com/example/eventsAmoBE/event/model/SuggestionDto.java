@@ -0,0 +1,19 @@
+package com.example.eventsAmoBE.event.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SuggestionDto {
+
+    public enum Type {
+        EVENT,
+        ADDRESS,
+        CATEGORY
+    }
+
+    private String text;
+    private Type type;
+    private Long eventId; // null for category suggestions
+}
@@ -1,10 +1,12 @@
 package com.example.eventsAmoBE.event.services;
 
 import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.EventCatalogChange;
 import com.example.eventsAmoBE.event.model.CreateEventDto;
 import com.example.eventsAmoBE.event.model.Event;
-//import org.springframework.cache.annotation.CacheEvict;
+import com.example.eventsAmoBE.event.model.EventDto;
 import com.example.eventsAmoBE.validators.EventValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,13 +14,14 @@ public class CreateEventService {
 
     private final EventRepository eventRepository;
     private final EventValidator eventValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CreateEventService(EventRepository eventRepository, EventValidator eventValidator) {
+    public CreateEventService(EventRepository eventRepository, EventValidator eventValidator, ApplicationEventPublisher eventPublisher) {
         this.eventRepository = eventRepository;
         this.eventValidator = eventValidator;
+        this.eventPublisher = eventPublisher;
     }
 
-    //@CacheEvict(value = "events", allEntries = true)
     public Event execute(CreateEventDto input) {
 
         eventValidator.validateCreateEvent(input);
@@ -37,6 +40,9 @@ public class CreateEventService {
                 .promoted(input.isPromoted())
                 .build();
 
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        eventPublisher.publishEvent(EventCatalogChange.upserted(new EventDto(saved), null));
+
+        return saved;
     }
 }
@@ -1,9 +1,11 @@
 package com.example.eventsAmoBE.event.services;
 
 import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.EventCatalogChange;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
-//import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 
@@ -12,13 +14,16 @@ import org.springframework.stereotype.Service;
 public class DeleteEventService {
     private final EventRepository eventRepository;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UpcomingEventIndex upcomingEventIndex;
 
-    public DeleteEventService(EventRepository eventRepository, EntityManager entityManager) {
+    public DeleteEventService(EventRepository eventRepository, EntityManager entityManager, ApplicationEventPublisher eventPublisher, UpcomingEventIndex upcomingEventIndex) {
         this.eventRepository = eventRepository;
         this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.upcomingEventIndex = upcomingEventIndex;
     }
 
-    //@CacheEvict(value = "events", allEntries = true)
     public Void execute(Long id) {
         // First, clear junction tables
         entityManager.createNativeQuery("DELETE FROM user_attending_events WHERE event_id = :eventId")
@@ -31,6 +36,7 @@ public class DeleteEventService {
 
         // Now safe to delete the event
         eventRepository.deleteById(id);
+        eventPublisher.publishEvent(EventCatalogChange.deleted(id, upcomingEventIndex.find(id).orElse(null)));
         return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.example.eventsAmoBE.event.services;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.utils.EventIdBatch;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class GetEventBatchService {
+
+    private final EventRepository eventRepository;
+    private final UpcomingEventIndex upcomingEventIndex;
+
+    public GetEventBatchService(EventRepository eventRepository, UpcomingEventIndex upcomingEventIndex) {
+        this.eventRepository = eventRepository;
+        this.upcomingEventIndex = upcomingEventIndex;
+    }
+
+    /**
+     * Events with the given ids in request order; ids of events that don't exist are left out. Upcoming events come
+     * from the index, the rest from one IN query with their categories joined.
+     */
+    public List<EventDto> execute(List<Long> ids) {
+        List<Long> eventIds = EventIdBatch.distinct(ids);
+
+        Map<Long, EventDto> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : eventIds) {
+            upcomingEventIndex.find(id).ifPresentOrElse(event -> found.put(id, event), () -> missing.add(id));
+        }
+        if (!missing.isEmpty()) {
+            EventRow.toDtos(eventRepository.findRowsByIdIn(missing)).forEach(event -> found.put(event.getId(), event));
+        }
+
+        return eventIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+}
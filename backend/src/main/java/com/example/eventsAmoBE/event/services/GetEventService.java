@@ -1,8 +1,9 @@
 package com.example.eventsAmoBE.event.services;
 
 import com.example.eventsAmoBE.event.EventRepository;
-import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
 import com.example.eventsAmoBE.exceptions.EventNotFoundException;
 import org.springframework.stereotype.Service;
 
@@ -10,15 +11,18 @@ import org.springframework.stereotype.Service;
 public class GetEventService {
 
     private final EventRepository eventRepository;
+    private final UpcomingEventIndex upcomingEventIndex;
 
-    public GetEventService(EventRepository eventRepository) {
+    public GetEventService(EventRepository eventRepository, UpcomingEventIndex upcomingEventIndex) {
         this.eventRepository = eventRepository;
+        this.upcomingEventIndex = upcomingEventIndex;
     }
 
     public EventDto execute(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(EventNotFoundException::new);
-
-        return new EventDto(event);
+        // Past events aren't indexed; project them with their categories in a single statement
+        return upcomingEventIndex.find(eventId)
+                .orElseGet(() -> EventRow.toDtos(eventRepository.findRowsById(eventId)).stream()
+                        .findFirst()
+                        .orElseThrow(EventNotFoundException::new));
     }
 }
@@ -1,41 +1,30 @@
 package com.example.eventsAmoBE.event.services;
 
-import com.example.eventsAmoBE.event.EventRepository;
-import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.catalog.EventPageCache;
+import com.example.eventsAmoBE.event.catalog.EventPageCache.ListKind;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.EventCursor;
 import com.example.eventsAmoBE.utils.PageResponse;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 public class GetEventsService {
 
-    private final EventRepository eventRepository;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventPageCache eventPageCache;
 
-    public GetEventsService(EventRepository eventRepository) {
-        this.eventRepository = eventRepository;
+    public GetEventsService(UpcomingEventIndex upcomingEventIndex, EventPageCache eventPageCache) {
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.eventPageCache = eventPageCache;
     }
 
-    //@Cacheable(value = "events", key = "'allEvents_' + #pageable.pageNumber + '_' + #pageable.pageSize", cacheManager = "eventCacheManager")
-    public PageResponse<EventDto> execute(Pageable pageable) {
-        Page<Event> page = eventRepository.findUpcomingEvents(LocalDateTime.now(), pageable);
-
-        List<EventDto> dtos = page.getContent().stream()
-                .map(EventDto::new)
-                .toList();
-
-        return new PageResponse<>(
-                dtos,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.getNumberOfElements(),
-                page.isLast()
-        );
+    public PageResponse<EventDto> execute(Pageable pageable, EventCursor after, boolean withTotals) {
+        LocalDateTime now = LocalDateTime.now();
+        return eventPageCache.get(ListKind.UPCOMING, null, null, pageable, after, withTotals, now,
+                () -> upcomingEventIndex.upcoming(pageable, after, withTotals, now));
     }
 }
@@ -1,50 +1,37 @@
 package com.example.eventsAmoBE.event.services;
 
-import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.EventPageCache;
+import com.example.eventsAmoBE.event.catalog.EventPageCache.ListKind;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
 import com.example.eventsAmoBE.event.model.Category;
 import com.example.eventsAmoBE.event.model.City;
-import com.example.eventsAmoBE.event.model.Event;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.EventCursor;
 import com.example.eventsAmoBE.utils.PageResponse;
-import com.example.eventsAmoBE.user.model.User;
-import com.example.eventsAmoBE.user.services.CurrentUserService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
 
 @Service
 public class GetFilteredEventsService {
 
-    private final EventRepository eventRepository;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventPageCache eventPageCache;
 
-    public GetFilteredEventsService(EventRepository eventRepository) {
-        this.eventRepository = eventRepository;
+    public GetFilteredEventsService(UpcomingEventIndex upcomingEventIndex, EventPageCache eventPageCache) {
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.eventPageCache = eventPageCache;
     }
 
-    public PageResponse<EventDto> execute(Pageable pageable, String city, String category) {
+    public PageResponse<EventDto> execute(Pageable pageable, EventCursor after, boolean withTotals, String city, String category) {
 
         City city1 = city.equalsIgnoreCase("ALL") ? null : City.valueOf(city);
         Category category1 = category.equalsIgnoreCase("ALL") ? null : Category.valueOf(category);
 
-        Page<Event> page = eventRepository.findUpcomingByCityAndCategory(city1, category1, LocalDateTime.now(), pageable);
-
-        List<EventDto> dtos = page.getContent().stream()
-                .map(EventDto::new)
-                .toList();
-
-        return new PageResponse<>(
-                dtos,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.getNumberOfElements(),
-                page.isLast()
-        );
+        LocalDateTime now = LocalDateTime.now();
+        return eventPageCache.get(ListKind.FILTERED, city1, category1, pageable, after, withTotals, now,
+                () -> upcomingEventIndex.filtered(city1, category1, pageable, after, withTotals, now));
     }
 
 }
@@ -1,10 +1,11 @@
 package com.example.eventsAmoBE.event.services;
 
-import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.EventPageCache;
+import com.example.eventsAmoBE.event.catalog.EventPageCache.ListKind;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.EventCursor;
 import com.example.eventsAmoBE.utils.PageResponse;
-//import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -13,15 +14,17 @@ import java.time.LocalDateTime;
 @Service
 public class GetPromotedEventsService {
 
-    private final EventRepository eventRepository;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventPageCache eventPageCache;
 
-    public GetPromotedEventsService(EventRepository eventRepository) {
-        this.eventRepository = eventRepository;
+    public GetPromotedEventsService(UpcomingEventIndex upcomingEventIndex, EventPageCache eventPageCache) {
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.eventPageCache = eventPageCache;
     }
 
-    //@Cacheable(value = "promotedEvents", key = "'promotedEvents_' + #pageable.pageNumber + '_' + #pageable.pageSize", cacheManager = "eventCacheManager")
-    public PageResponse<EventDto> execute(Pageable pageable){
-        Page<EventDto> page = eventRepository.findUpcomingPromotedEvents(LocalDateTime.now(), pageable).map(EventDto::new);
-        return new PageResponse<>(page);
+    public PageResponse<EventDto> execute(Pageable pageable, EventCursor after, boolean withTotals){
+        LocalDateTime now = LocalDateTime.now();
+        return eventPageCache.get(ListKind.PROMOTED, null, null, pageable, after, withTotals, now,
+                () -> upcomingEventIndex.promoted(pageable, after, withTotals, now));
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,9 @@
 package com.example.eventsAmoBE.event.services;
 
-import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.EventSearchIndex;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.EventCursor;
 import com.example.eventsAmoBE.utils.PageResponse;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -12,17 +12,13 @@ import java.time.LocalDateTime;
 @Service
 public class SearchEventService {
 
-    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
 
-    public SearchEventService(EventRepository eventRepository) {
-        this.eventRepository = eventRepository;
+    public SearchEventService(EventSearchIndex eventSearchIndex) {
+        this.eventSearchIndex = eventSearchIndex;
     }
 
-    public PageResponse<EventDto> execute(String search, Pageable pageable){
-
-        Page<EventDto> page = eventRepository.searchUpcomingByNameOrDescription(
-                        search, LocalDateTime.now(), pageable).map(EventDto::new);
-
-        return new PageResponse<>(page);
+    public PageResponse<EventDto> execute(String search, Pageable pageable, EventCursor after, boolean withTotals){
+        return eventSearchIndex.search(search, pageable, after, withTotals, LocalDateTime.now());
     }
 }
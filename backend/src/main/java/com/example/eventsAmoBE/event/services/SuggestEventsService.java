@@ -0,0 +1,22 @@
+package com.example.eventsAmoBE.event.services;
+
+import com.example.eventsAmoBE.event.catalog.EventSuggester;
+import com.example.eventsAmoBE.event.model.SuggestionDto;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class SuggestEventsService {
+
+    private final EventSuggester eventSuggester;
+
+    public SuggestEventsService(EventSuggester eventSuggester) {
+        this.eventSuggester = eventSuggester;
+    }
+
+    public List<SuggestionDto> execute(String prefix, int limit) {
+        return eventSuggester.suggest(prefix, limit, LocalDateTime.now());
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.eventsAmoBE.event.services;
 
 import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.catalog.EventCatalogChange;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
 import com.example.eventsAmoBE.event.model.Category;
 import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.model.EventDto;
 import org.springframework.beans.factory.annotation.Autowired;
-//import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -16,13 +19,16 @@ import java.util.Set;
 public class UpdateEventService {
 
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UpcomingEventIndex upcomingEventIndex;
 
     @Autowired
-    public UpdateEventService(EventRepository eventRepository) {
+    public UpdateEventService(EventRepository eventRepository, ApplicationEventPublisher eventPublisher, UpcomingEventIndex upcomingEventIndex) {
         this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+        this.upcomingEventIndex = upcomingEventIndex;
     }
 
-    //@CacheEvict(value = "events", allEntries = true)
     public Event execute(Long id, Event updatedEvent) {
         Event existingEvent = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event with id " + id + " doesn't exist!"));
@@ -30,7 +36,10 @@ public class UpdateEventService {
         // Update only non-null and non-empty fields
         updateIfNotNullOrEmpty(existingEvent, updatedEvent);
 
-        return eventRepository.save(existingEvent);
+        Event saved = eventRepository.save(existingEvent);
+        eventPublisher.publishEvent(EventCatalogChange.upserted(new EventDto(saved), upcomingEventIndex.find(id).orElse(null)));
+
+        return saved;
     }
 
     private void updateIfNotNullOrEmpty(Event existingEvent, Event updatedEvent) {
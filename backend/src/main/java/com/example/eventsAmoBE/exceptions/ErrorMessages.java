@@ -6,7 +6,10 @@ import lombok.Getter;
 public enum ErrorMessages {
     EVENT_NOT_FOUND("Event Not Found"),
     USER_NOT_FOUND("User not found"),
-    INVALID_CREDENTIALS("Invalid email or password");
+    INVALID_CREDENTIALS("Invalid email or password"),
+    INVALID_CURSOR("Invalid or expired page cursor"),
+    TOO_MANY_REQUESTS("Too many requests, please try again shortly"),
+    BATCH_TOO_LARGE("Too many ids in one request");
 
 
     private final String message;
@@ -0,0 +1,11 @@
+package com.example.eventsAmoBE.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super(ErrorMessages.INVALID_CURSOR.getMessage());
+    }
+}
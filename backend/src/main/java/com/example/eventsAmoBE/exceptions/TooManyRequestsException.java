@@ -0,0 +1,11 @@
+package com.example.eventsAmoBE.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException() {
+        super(ErrorMessages.TOO_MANY_REQUESTS.getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.eventsAmoBE.security;
 
 import com.example.eventsAmoBE.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,7 +11,6 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
@@ -26,10 +26,10 @@ public class AuthConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -38,8 +38,18 @@ public class AuthConfig {
         return config.getAuthenticationManager();
     }
 
+    // A configured strength is shared by the whole fleet; otherwise each instance calibrates its own
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.bcrypt.strength:0}") int strength,
+            @Value("${security.bcrypt.target-millis:50}") long targetMillis,
+            @Value("${security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${security.bcrypt.rehash-tolerance:1}") int rehashTolerance
+    ) {
+        if (strength > 0) {
+            return new CalibratedBCryptPasswordEncoder(strength, rehashTolerance);
+        }
+        return CalibratedBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength, rehashTolerance);
     }
 }
\ No newline at end of file
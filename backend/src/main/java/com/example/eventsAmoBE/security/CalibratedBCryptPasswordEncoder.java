@@ -0,0 +1,76 @@
+package com.example.eventsAmoBE.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt with a work factor chosen at startup so one hash takes about a target time on the current hardware.
+ * Hashes stored at a cost more than {@code rehashTolerance} steps away, higher or lower, report {@link #upgradeEncoding}
+ * so they are re-hashed on the next successful login. The tolerance keeps instances that calibrate one step apart from
+ * re-hashing the same user back and forth; a fleet that must agree exactly configures one strength instead.
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final String SAMPLE = "calibration-sample";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final int rehashTolerance;
+
+    public CalibratedBCryptPasswordEncoder(int strength, int rehashTolerance) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.rehashTolerance = rehashTolerance;
+    }
+
+    /**
+     * Measures a hash at {@code minStrength} and picks the highest strength, up to {@code maxStrength}, whose
+     * expected time stays within {@code targetMillis}. Each extra step doubles the cost; {@code minStrength} is a floor.
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(long targetMillis, int minStrength, int maxStrength, int rehashTolerance) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(SAMPLE); // warm-up
+
+        long started = System.nanoTime();
+        probe.encode(SAMPLE);
+        double millis = Math.max(0.001, (System.nanoTime() - started) / 1e6);
+
+        int strength = minStrength;
+        while (strength < maxStrength && millis * 2 <= targetMillis) {
+            millis *= 2;
+            strength++;
+        }
+
+        log.info("BCrypt strength calibrated to {} (~{} ms per hash, target {} ms)", strength, Math.round(millis), targetMillis);
+        return new CalibratedBCryptPasswordEncoder(strength, rehashTolerance);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // $2a$10$... carries the cost in the two digits after the second '$'
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Math.abs(Integer.parseInt(encodedPassword.substring(4, 6)) - strength) > rehashTolerance;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.eventsAmoBE.security;
+
+import com.example.eventsAmoBE.user.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated user as described by a verified token, so requests don't need to load the {@link User} row.
+ */
+public class JwtPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(Long id, String email, Collection<String> roles) {
+        this.id = id;
+        this.email = email;
+        this.authorities = roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+    }
+
+    public static JwtPrincipal of(User user) {
+        return new JwtPrincipal(user.getId(), user.getEmail(), roles(user));
+    }
+
+    static List<String> roles(User user) {
+        return user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -39,15 +39,17 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/auth/**",
                                 "/events",
+                                "/events/batch",
                                 "/eventGet/{id}",
                                 "/event/main",
                                 "/event/promoted",
                                 "/event/category",
                                 "/event/search",
+                                "/event/suggest",
                                 "/event/filter",
                                 "/actuator/health"
                         ).permitAll()
-                        .requestMatchers("/event", "/event/{id}")
+                        .requestMatchers("/event", "/event/import", "/event/export", "/event/{id}")
                         .hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -62,7 +64,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "If-None-Match", "If-Modified-Since"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified"));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
@@ -0,0 +1,54 @@
+package com.example.eventsAmoBE.security;
+
+import com.example.eventsAmoBE.user.UserRepository;
+import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.model.UserSecurityVersion;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory table of user security versions, used to tell whether the roles embedded in a token are still current.
+ * Only users whose version was ever bumped are kept; everyone else is at version 0. The table is refreshed on a
+ * schedule so bumps made by other instances are picked up.
+ */
+@Component
+public class SecurityVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public SecurityVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${security.version-refresh-ms:30000}")
+    public void reload() {
+        for (UserSecurityVersion version : userRepository.findBumpedSecurityVersions()) {
+            versions.merge(version.userId(), version.securityVersion(), Math::max);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Whether a token issued at {@code version} still reflects the user's roles. Until the table is loaded every
+     * token is treated as stale, which only costs a database lookup.
+     */
+    public boolean isCurrent(Long userId, int version) {
+        return loaded && versions.getOrDefault(userId, 0) == version;
+    }
+
+    /**
+     * Moves {@code user} to a new security version; call before saving a change to the user's roles.
+     */
+    public void bump(User user) {
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+        versions.merge(user.getId(), user.getSecurityVersion(), Math::max);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.eventsAmoBE.security.revocation;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked tokens and per-user cutoffs, checked on every authenticated request without touching the database.
+ * <p>
+ * Revoked token ids sit in a Bloom filter backed by an exact map, so the common case (not revoked) is answered by the
+ * filter alone. Users can also be given a not-before time, rejecting every token issued earlier. Both are persisted,
+ * and refreshed on a schedule so revocations made by other instances are picked up; expired entries are purged then.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenCutoffRepository userTokenCutoffRepository;
+    private final int expectedRevocations;
+    private final long tokenLifetimeMillis;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Map<Long, Instant> cutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(
+            RevokedTokenRepository revokedTokenRepository,
+            UserTokenCutoffRepository userTokenCutoffRepository,
+            @Value("${security.revocation.expected-tokens:100000}") int expectedRevocations,
+            @Value("${jwt.expiration}") long tokenLifetimeMillis
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userTokenCutoffRepository = userTokenCutoffRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    // Loaded before the first request so no revoked token slips through after a restart
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-ms:30000}", initialDelayString = "${security.revocation.refresh-ms:30000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        userTokenCutoffRepository.deleteObsolete(now.minusMillis(tokenLifetimeMillis));
+
+        revokedTokenRepository.findByExpiresAtAfter(now)
+                .forEach(token -> revoked.putIfAbsent(token.getJti(), token.getExpiresAt()));
+        userTokenCutoffRepository.findAll()
+                .forEach(cutoff -> cutoffs.merge(cutoff.getUserId(), cutoff.getNotBefore(), TokenRevocationList::later));
+
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        cutoffs.values().removeIf(notBefore -> !notBefore.isAfter(now.minusMillis(tokenLifetimeMillis)));
+        rebuildFilter();
+    }
+
+    public boolean isRevoked(Claims claims, Long userId) {
+        String jti = claims.getId();
+        if (jti != null && filter.mightContain(jti) && revoked.containsKey(jti)) {
+            return true;
+        }
+
+        Instant notBefore = userId != null ? cutoffs.get(userId) : null;
+        Date issuedAt = claims.getIssuedAt();
+        return notBefore != null && (issuedAt == null || issuedAt.toInstant().isBefore(notBefore));
+    }
+
+    /**
+     * Revokes a single token, e.g. on logout.
+     */
+    public void revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        revokedTokenRepository.save(new RevokedToken(claims.getId(), expiresAt));
+        synchronized (this) {
+            revoked.put(claims.getId(), expiresAt);
+            filter.add(claims.getId());
+        }
+    }
+
+    /**
+     * Rejects every token issued to the user until now. Token issue times have second precision, so the cutoff is
+     * truncated to the second: a token issued right after this call, such as the one returned by a password change,
+     * stays valid.
+     */
+    public void revokeAllFor(Long userId) {
+        Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        userTokenCutoffRepository.save(new UserTokenCutoff(userId, notBefore));
+        cutoffs.merge(userId, notBefore, TokenRevocationList::later);
+    }
+
+    // Bloom filters can't forget, so expired ids are dropped by building a fresh one
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        log.debug("Token revocation filter rebuilt with {} tokens and {} user cutoffs", revoked.size(), cutoffs.size());
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.eventsAmoBE.security.revocation;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_token_cutoffs")
+public class UserTokenCutoff {
+
+    @Id
+    private Long userId;
+
+    private Instant notBefore;
+}
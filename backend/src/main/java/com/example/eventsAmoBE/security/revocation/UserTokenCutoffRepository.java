@@ -0,0 +1,20 @@
+package com.example.eventsAmoBE.security.revocation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface UserTokenCutoffRepository extends JpaRepository<UserTokenCutoff, Long> {
+
+    // A cutoff older than the token lifetime can't reject anything still valid
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserTokenCutoff c WHERE c.notBefore <= :oldestLiveIssue")
+    int deleteObsolete(@Param("oldestLiveIssue") Instant oldestLiveIssue);
+}
@@ -1,11 +1,15 @@
 package com.example.eventsAmoBE.user;
 
+import com.example.eventsAmoBE.auth.AuthResponseDto;
 import com.example.eventsAmoBE.event.model.Event;
 import com.example.eventsAmoBE.event.model.EventDto;
 import com.example.eventsAmoBE.event.model.EventRequestDto;
+import com.example.eventsAmoBE.user.membership.MembershipKind;
 import com.example.eventsAmoBE.user.model.*;
 import com.example.eventsAmoBE.user.services.*;
+import com.example.eventsAmoBE.utils.EventCursor;
 import com.example.eventsAmoBE.utils.EventMapper;
+import com.example.eventsAmoBE.utils.PageResponse;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,8 @@ public class UserController {
     private final UserByIdService userByIdService;
     private final SaveEventService saveEventService;
     private final AttendEventService attendEventService;
+    private final MembershipPageService membershipPageService;
+    private final EventMembershipService eventMembershipService;
     private final SubmitEventService submitEventService;
     private final ProfileUpdateService profileUpdateService;
     private final EventMapper eventMapper;
@@ -75,9 +81,9 @@ public class UserController {
     }
 
     @PutMapping("/password")
-    public ResponseEntity<Void> updatePassword(@RequestBody PasswordChangeRequest request) {
-        profileUpdateService.updatePassword(request.getCurrentPassword(), request.getNewPassword());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<AuthResponseDto> updatePassword(@RequestBody PasswordChangeRequest request) {
+        String token = profileUpdateService.updatePassword(request.getCurrentPassword(), request.getNewPassword());
+        return ResponseEntity.ok(AuthResponseDto.builder().token(token).build());
     }
 
 //    @PutMapping("/email")
@@ -105,11 +111,32 @@ public class UserController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/save-events")
+    public ResponseEntity<Void> saveEvents(@RequestBody List<Long> eventIds) {
+        saveEventService.saveEvents(eventIds);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/unsave-events")
+    public ResponseEntity<Void> unsaveEvents(@RequestBody List<Long> eventIds) {
+        saveEventService.unsaveEvents(eventIds);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/saved-events")
     public ResponseEntity<Set<EventDto>> getSavedEvents() {
         return ResponseEntity.ok(saveEventService.getSavedEvents());
     }
 
+    @GetMapping("/saved-events/page")
+    public ResponseEntity<PageResponse<EventDto>> getSavedEventsPage(
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includePast
+    ) {
+        return ResponseEntity.ok(membershipPageService.execute(MembershipKind.SAVED, size, EventCursor.decode(cursor), includePast));
+    }
+
     // Event attending functionalities
     @PostMapping("/attend-event/{eventId}")
     public ResponseEntity<Void> attendEvent(@PathVariable Long eventId) {
@@ -123,11 +150,38 @@ public class UserController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/attend-events")
+    public ResponseEntity<Void> attendEvents(@RequestBody List<Long> eventIds) {
+        attendEventService.attendEvents(eventIds);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/unattend-events")
+    public ResponseEntity<Void> unattendEvents(@RequestBody List<Long> eventIds) {
+        attendEventService.unattendEvents(eventIds);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/attending-events")
     public ResponseEntity<Set<EventDto>> getAttendingEvents() {
         return ResponseEntity.ok(attendEventService.getAttendingEvents());
     }
 
+    @GetMapping("/attending-events/page")
+    public ResponseEntity<PageResponse<EventDto>> getAttendingEventsPage(
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includePast
+    ) {
+        return ResponseEntity.ok(membershipPageService.execute(MembershipKind.ATTENDING, size, EventCursor.decode(cursor), includePast));
+    }
+
+    // Saved/attending flags for the events on a page, in one call
+    @GetMapping("/event-memberships")
+    public ResponseEntity<EventMembershipDto> getEventMemberships(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(eventMembershipService.execute(ids));
+    }
+
     // For admin use only - to make another user an admin
     @PutMapping("/make-admin")
     @PreAuthorize("hasRole('ADMIN')")
@@ -141,7 +195,7 @@ public class UserController {
             @Valid @RequestPart("event") EventRequestDto eventDto,
             @RequestPart(value = "images", required = false) List<MultipartFile> images) {
 
-        User user = currentUserService.getCurrentUser();
+        UserSnapshot user = currentUserService.getCurrentUser();
 
         Event event = eventMapper.fromDto(eventDto);
 
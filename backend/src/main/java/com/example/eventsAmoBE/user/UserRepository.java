@@ -1,11 +1,17 @@
 package com.example.eventsAmoBE.user;
 
 import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.model.UserSecurityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,13 +19,69 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u LEFT JOIN FETCH u.savedEvents WHERE u.email = :email")
-    Optional<User> findByEmailWithSavedEvents(@Param("email") String email);
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
 
-    @Query("SELECT DISTINCT u FROM User u " +
-            "LEFT JOIN FETCH u.attendingEvents e " +
-            "LEFT JOIN FETCH e.attendees " +
-            "WHERE u.email = :email")
-    Optional<User> findByEmailWithAttendingEvents(@Param("email") String email);
+    // Save/attend toggles write the junction tables directly; both directions are idempotent
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_saved_events (user_id, event_id) VALUES (:userId, :eventId)", nativeQuery = true)
+    int insertSavedEvent(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_saved_events WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+    int deleteSavedEvent(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_attending_events (user_id, event_id) VALUES (:userId, :eventId)", nativeQuery = true)
+    int insertAttendingEvent(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_attending_events WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+    int deleteAttendingEvent(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    // Which of the given events the user already has; batch writes go through MembershipWriter
+    @Query(value = "SELECT event_id FROM user_saved_events WHERE user_id = :userId AND event_id IN (:eventIds)", nativeQuery = true)
+    List<Long> findSavedEventIdsAmong(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
+    @Query(value = "SELECT event_id FROM user_attending_events WHERE user_id = :userId AND event_id IN (:eventIds)", nativeQuery = true)
+    List<Long> findAttendingEventIdsAmong(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
+    @Query(value = "SELECT event_id FROM user_saved_events WHERE user_id = :userId", nativeQuery = true)
+    List<Long> findSavedEventIdsByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT event_id FROM user_attending_events WHERE user_id = :userId", nativeQuery = true)
+    List<Long> findAttendingEventIdsByUserId(@Param("userId") Long userId);
+
+    // Keyset pages of a user's memberships in (startDateTime, id) order, seeking past the given position
+    @Query(value = """
+            SELECT e.id FROM user_saved_events s JOIN event e ON e.id = s.event_id
+            WHERE s.user_id = :userId
+              AND (e.start_date_time > :afterStart OR (e.start_date_time = :afterStart AND e.id > :afterId))
+            ORDER BY e.start_date_time, e.id
+            LIMIT :limit""", nativeQuery = true)
+    List<Long> findSavedEventIdsAfter(@Param("userId") Long userId, @Param("afterStart") LocalDateTime afterStart,
+                                      @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT e.id FROM user_attending_events a JOIN event e ON e.id = a.event_id
+            WHERE a.user_id = :userId
+              AND (e.start_date_time > :afterStart OR (e.start_date_time = :afterStart AND e.id > :afterId))
+            ORDER BY e.start_date_time, e.id
+            LIMIT :limit""", nativeQuery = true)
+    List<Long> findAttendingEventIdsAfter(@Param("userId") Long userId, @Param("afterStart") LocalDateTime afterStart,
+                                          @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query("SELECT new com.example.eventsAmoBE.user.model.UserSecurityVersion(u.id, u.securityVersion) FROM User u WHERE u.securityVersion > 0")
+    List<UserSecurityVersion> findBumpedSecurityVersions();
+
+    @Query("SELECT e.id FROM User u JOIN u.savedEvents e WHERE u.email = :email")
+    List<Long> findSavedEventIdsByEmail(@Param("email") String email);
+
+    @Query("SELECT e.id FROM User u JOIN u.attendingEvents e WHERE u.email = :email")
+    List<Long> findAttendingEventIdsByEmail(@Param("email") String email);
 
 }
\ No newline at end of file
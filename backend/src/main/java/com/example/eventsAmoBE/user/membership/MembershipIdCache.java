@@ -0,0 +1,85 @@
+package com.example.eventsAmoBE.user.membership;
+
+import com.example.eventsAmoBE.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user {@link UserMemberships}, loaded on first access and kept current by the save and attend services, so
+ * responses can flag saved and attended events without a query.
+ * <p>
+ * Entries expire after a while so changes made through another instance show up eventually. Versions come from one
+ * counter, so a reloaded entry never reuses the version of the one it replaced.
+ */
+@Component
+public class MembershipIdCache {
+
+    private final UserRepository userRepository;
+    private final MembershipWriteBuffer membershipWriteBuffer;
+    private final Cache<Long, UserMemberships> cache;
+    private final AtomicLong versions = new AtomicLong();
+
+    public MembershipIdCache(
+            UserRepository userRepository,
+            MembershipWriteBuffer membershipWriteBuffer,
+            @Value("${events.memberships.cache.maximum-size:10000}") long maximumSize,
+            @Value("${events.memberships.cache.expire-after-write-minutes:10}") long expireMinutes
+    ) {
+        this.userRepository = userRepository;
+        this.membershipWriteBuffer = membershipWriteBuffer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    public UserMemberships get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * Applies a change once the surrounding transaction commits, or right away outside one. Users without a cached
+     * entry are left alone; their next access loads the committed state.
+     */
+    public void changed(MembershipKind kind, Long userId, Collection<Long> eventIds, boolean present) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(kind, userId, eventIds, present);
+                }
+            });
+        } else {
+            apply(kind, userId, eventIds, present);
+        }
+    }
+
+    public void changed(MembershipKind kind, Long userId, Long eventId, boolean present) {
+        changed(kind, userId, List.of(eventId), present);
+    }
+
+    private void apply(MembershipKind kind, Long userId, Collection<Long> eventIds, boolean present) {
+        cache.asMap().computeIfPresent(userId,
+                (id, memberships) -> memberships.with(kind, eventIds, present, versions.incrementAndGet()));
+    }
+
+    // Two primary-key range reads; writes still pending in the write-behind buffer are overlaid
+    private UserMemberships load(Long userId) {
+        MembershipWriteBuffer.PendingView pendingSaved = membershipWriteBuffer.pendingFor(MembershipKind.SAVED, () -> userId);
+        MembershipWriteBuffer.PendingView pendingAttending = membershipWriteBuffer.pendingFor(MembershipKind.ATTENDING, () -> userId);
+        return UserMemberships.of(
+                pendingSaved.applyTo(userRepository.findSavedEventIdsByUserId(userId)),
+                pendingAttending.applyTo(userRepository.findAttendingEventIdsByUserId(userId)),
+                versions.incrementAndGet()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.eventsAmoBE.user.membership;
+
+/**
+ * The two user-to-event relations and the junction tables holding them.
+ */
+public enum MembershipKind {
+
+    SAVED("user_saved_events"),
+    ATTENDING("user_attending_events");
+
+    private final String table;
+
+    MembershipKind(String table) {
+        this.table = table;
+    }
+
+    String insertSql() {
+        return "INSERT IGNORE INTO " + table + " (user_id, event_id) VALUES (?, ?)";
+    }
+
+    String deleteSql() {
+        return "DELETE FROM " + table + " WHERE user_id = ? AND event_id = ?";
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.eventsAmoBE.user.membership;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind buffer for save/attend toggles, used when {@code events.memberships.write-behind.enabled} is set.
+ * <p>
+ * A toggle only records the intended state of its (user, event) pair and returns; repeated toggles of the same pair
+ * overwrite each other, so a burst of taps costs one statement for the final state. Pending states are written in
+ * JDBC batches every few milliseconds, or as soon as enough of them pile up. On shutdown they are flushed, and if the
+ * database can't be reached they are journaled to a file that is replayed on the next start.
+ */
+@Slf4j
+@Component
+public class MembershipWriteBuffer {
+
+    private record Key(MembershipKind kind, Long userId, Long eventId) {
+    }
+
+    /**
+     * A user's pending states of one kind, keyed by event id; {@code true} means the pair should exist.
+     */
+    public record PendingView(Map<Long, Boolean> states) {
+
+        static final PendingView EMPTY = new PendingView(Map.of());
+
+        public List<Long> applyTo(List<Long> persisted) {
+            if (states.isEmpty()) {
+                return persisted;
+            }
+            Set<Long> ids = new LinkedHashSet<>(persisted);
+            states.forEach((eventId, present) -> {
+                if (present) {
+                    ids.add(eventId);
+                } else {
+                    ids.remove(eventId);
+                }
+            });
+            return new ArrayList<>(ids);
+        }
+    }
+
+    private final MembershipWriter membershipWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int flushThreshold;
+    private final Path journal;
+    private final ScheduledExecutorService flusher;
+
+    private final Map<Key, Boolean> pending = new ConcurrentHashMap<>();
+    // Drained but not yet committed; still overlaid on reads until the flush finishes
+    private volatile Map<Key, Boolean> inFlight = Map.of();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public MembershipWriteBuffer(
+            MembershipWriter membershipWriter,
+            TransactionTemplate transactionTemplate,
+            @Value("${events.memberships.write-behind.enabled:false}") boolean enabled,
+            @Value("${events.memberships.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${events.memberships.write-behind.flush-threshold:500}") int flushThreshold,
+            @Value("${events.memberships.write-behind.journal:pending-memberships.journal}") String journal
+    ) {
+        this.membershipWriter = membershipWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+        this.journal = Path.of(journal);
+        this.flusher = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "membership-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(MembershipKind kind, Long userId, Long eventId, boolean present) {
+        pending.put(new Key(kind, userId, eventId), present);
+        if (pending.size() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Captures the user's pending states of one kind. Take it before querying the persisted ids and apply it to
+     * them afterwards: whatever is flushed in between is then seen either here or in the query result. The user id is
+     * only resolved when write-behind is enabled.
+     */
+    public PendingView pendingFor(MembershipKind kind, Supplier<Long> currentUserId) {
+        if (!enabled) {
+            return PendingView.EMPTY;
+        }
+        Long userId = currentUserId.get();
+
+        // Pending before in-flight: a flush publishes in-flight before removing from pending, so nothing is missed
+        Map<Long, Boolean> newer = new HashMap<>();
+        collect(pending, kind, userId, newer);
+        Map<Long, Boolean> states = new HashMap<>();
+        collect(inFlight, kind, userId, states);
+        states.putAll(newer);
+        return new PendingView(states);
+    }
+
+    // Entries of a journal left by a shutdown that couldn't reach the database
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayJournal() {
+        if (!Files.exists(journal)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(journal)) {
+                String[] fields = line.split(",");
+                if (fields.length == 4) {
+                    Key key = new Key(MembershipKind.valueOf(fields[0]), Long.valueOf(fields[1]), Long.valueOf(fields[2]));
+                    pending.putIfAbsent(key, Boolean.valueOf(fields[3]));
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Could not replay membership journal {}", journal, e);
+            return;
+        }
+
+        int replayed = pending.size();
+        if (flush() || enabled) {
+            // Anything still pending is back in memory and journaled again on shutdown if needed
+            deleteJournal();
+        }
+        log.info("Replayed {} pending memberships from {}", replayed, journal);
+    }
+
+    /**
+     * Writes everything pending in one transaction. Returns false, leaving the states pending, if the write failed.
+     */
+    public synchronized boolean flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return true;
+        }
+
+        Map<Key, Boolean> batch = new HashMap<>(pending);
+        inFlight = batch;
+        // Only drop states that weren't toggled again meanwhile; newer ones go out with the next flush
+        batch.forEach(pending::remove);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            return true;
+        } catch (RuntimeException e) {
+            batch.forEach(pending::putIfAbsent);
+            log.warn("Flushing {} pending memberships failed, will retry", batch.size(), e);
+            return false;
+        } finally {
+            inFlight = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (pending.isEmpty() || flush()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>(pending.size());
+        pending.forEach((key, present) ->
+                lines.add(key.kind() + "," + key.userId() + "," + key.eventId() + "," + present));
+        try {
+            Files.write(journal, lines);
+            log.warn("Journaled {} pending memberships to {}", lines.size(), journal);
+        } catch (IOException e) {
+            log.error("Lost {} pending memberships, could not write {}", lines.size(), journal, e);
+        }
+    }
+
+    private void write(Map<Key, Boolean> batch) {
+        for (MembershipKind kind : MembershipKind.values()) {
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> deletes = new ArrayList<>();
+            batch.forEach((key, present) -> {
+                if (key.kind() == kind) {
+                    (present ? inserts : deletes).add(new Object[]{key.userId(), key.eventId()});
+                }
+            });
+
+            membershipWriter.apply(kind, inserts, true);
+            membershipWriter.apply(kind, deletes, false);
+        }
+    }
+
+    private void deleteJournal() {
+        try {
+            Files.deleteIfExists(journal);
+        } catch (IOException e) {
+            log.warn("Could not delete membership journal {}", journal, e);
+        }
+    }
+
+    private static void collect(Map<Key, Boolean> source, MembershipKind kind, Long userId, Map<Long, Boolean> into) {
+        source.forEach((key, present) -> {
+            if (key.kind() == kind && key.userId().equals(userId)) {
+                into.put(key.eventId(), present);
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.eventsAmoBE.user.membership;
+
+import com.example.eventsAmoBE.event.catalog.EventCounters;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Writes membership rows in JDBC batches of single-row statements. Counters move by each statement's own affected
+ * count, so a row that a concurrent toggle changed first is never counted twice.
+ */
+@Component
+public class MembershipWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventCounters eventCounters;
+
+    public MembershipWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, EventCounters eventCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventCounters = eventCounters;
+    }
+
+    /**
+     * Adds or removes the user's memberships of the given events in one transaction of its own.
+     */
+    public void write(MembershipKind kind, Long userId, List<Long> eventIds, boolean present) {
+        List<Object[]> rows = eventIds.stream().map(eventId -> new Object[]{userId, eventId}).toList();
+        transactionTemplate.executeWithoutResult(status -> apply(kind, rows, present));
+    }
+
+    // Runs in the caller's transaction; each row is {userId, eventId}
+    void apply(MembershipKind kind, List<Object[]> rows, boolean present) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // Without rewritten batches the driver reports each statement's count, so counters move only on real changes
+        int[] changed = jdbcTemplate.batchUpdate(present ? kind.insertSql() : kind.deleteSql(), rows);
+        for (int i = 0; i < changed.length; i++) {
+            if (changed[i] == 1) {
+                counted(kind, (Long) rows.get(i)[1], present);
+            }
+        }
+    }
+
+    private void counted(MembershipKind kind, Long eventId, boolean added) {
+        if (kind == MembershipKind.SAVED) {
+            if (added) {
+                eventCounters.saveAdded(eventId);
+            } else {
+                eventCounters.saveRemoved(eventId);
+            }
+        } else if (added) {
+            eventCounters.attendeeAdded(eventId);
+        } else {
+            eventCounters.attendeeRemoved(eventId);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.eventsAmoBE.user.membership;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A user's saved and attended event ids as sorted primitive arrays, looked up by binary search. Immutable: changes
+ * produce a copy with a new {@code version}, which also ends up in the ETag of the user's responses.
+ */
+public record UserMemberships(long[] saved, long[] attending, long version) {
+
+    public static UserMemberships of(Collection<Long> saved, Collection<Long> attending, long version) {
+        return new UserMemberships(sorted(saved), sorted(attending), version);
+    }
+
+    public boolean isSaved(long eventId) {
+        return Arrays.binarySearch(saved, eventId) >= 0;
+    }
+
+    public boolean isAttending(long eventId) {
+        return Arrays.binarySearch(attending, eventId) >= 0;
+    }
+
+    UserMemberships with(MembershipKind kind, Collection<Long> eventIds, boolean present, long newVersion) {
+        return kind == MembershipKind.SAVED
+                ? new UserMemberships(change(saved, eventIds, present), attending, newVersion)
+                : new UserMemberships(saved, change(attending, eventIds, present), newVersion);
+    }
+
+    private static long[] change(long[] ids, Collection<Long> eventIds, boolean present) {
+        long[] changed = ids;
+        for (Long eventId : eventIds) {
+            int index = Arrays.binarySearch(changed, eventId);
+            if (present && index < 0) {
+                int insertAt = -index - 1;
+                long[] grown = new long[changed.length + 1];
+                System.arraycopy(changed, 0, grown, 0, insertAt);
+                grown[insertAt] = eventId;
+                System.arraycopy(changed, insertAt, grown, insertAt + 1, changed.length - insertAt);
+                changed = grown;
+            } else if (!present && index >= 0) {
+                long[] shrunk = new long[changed.length - 1];
+                System.arraycopy(changed, 0, shrunk, 0, index);
+                System.arraycopy(changed, index + 1, shrunk, index, changed.length - index - 1);
+                changed = shrunk;
+            }
+        }
+        return changed;
+    }
+
+    private static long[] sorted(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
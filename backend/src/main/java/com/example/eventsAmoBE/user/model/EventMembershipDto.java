@@ -0,0 +1,9 @@
+package com.example.eventsAmoBE.user.model;
+
+import java.util.List;
+
+/**
+ * Which of the requested events the current user has saved and is attending.
+ */
+public record EventMembershipDto(List<Long> saved, List<Long> attending) {
+}
@@ -41,6 +41,10 @@ public class User implements UserDetails {
     @Builder.Default
     private Integer avatarId = 0;
 
+    @Builder.Default
+    @Column(name = "security_version")
+    private int securityVersion = 0;
+
     @ManyToMany
     @JoinTable(
             name = "user_saved_events",
@@ -21,4 +21,14 @@ public class UserDto {
         this.isAdmin = user.isAdmin();
         this.avatarId = user.getAvatarId() != null ? user.getAvatarId() : 0;
     }
+
+    public UserDto(UserSnapshot user) {
+
+        this.id = user.id();
+        this.name = user.name();
+        this.lastName = user.lastName();
+        this.email = user.email();
+        this.isAdmin = user.admin();
+        this.avatarId = user.avatarId();
+    }
 }
@@ -0,0 +1,4 @@
+package com.example.eventsAmoBE.user.model;
+
+public record UserSecurityVersion(Long userId, int securityVersion) {
+}
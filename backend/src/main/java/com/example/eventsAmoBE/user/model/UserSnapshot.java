@@ -0,0 +1,18 @@
+package com.example.eventsAmoBE.user.model;
+
+/**
+ * Immutable copy of the profile fields of a {@link User}, safe to cache and share across requests.
+ */
+public record UserSnapshot(Long id, String name, String lastName, String email, boolean admin, int avatarId) {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.isAdmin(),
+                user.getAvatarId() != null ? user.getAvatarId() : 0
+        );
+    }
+}
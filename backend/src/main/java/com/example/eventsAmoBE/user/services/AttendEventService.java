@@ -1,16 +1,23 @@
 package com.example.eventsAmoBE.user.services;
 
 import com.example.eventsAmoBE.event.EventRepository;
-import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.catalog.EventCounters;
+import com.example.eventsAmoBE.event.catalog.KnownEventIds;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
 import com.example.eventsAmoBE.exceptions.EventNotFoundException;
 import com.example.eventsAmoBE.user.UserRepository;
-import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.membership.MembershipIdCache;
+import com.example.eventsAmoBE.user.membership.MembershipKind;
+import com.example.eventsAmoBE.user.membership.MembershipWriteBuffer;
+import com.example.eventsAmoBE.user.membership.MembershipWriter;
+import com.example.eventsAmoBE.utils.EventIdBatch;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 public class AttendEventService {
@@ -18,41 +25,96 @@ public class AttendEventService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final CurrentUserService currentUserService;
+    private final KnownEventIds knownEventIds;
+    private final EventCounters eventCounters;
+    private final MembershipWriteBuffer membershipWriteBuffer;
+    private final MembershipWriter membershipWriter;
+    private final MembershipIdCache membershipIdCache;
 
-    public AttendEventService(UserRepository userRepository, EventRepository eventRepository, CurrentUserService currentUserService) {
+    public AttendEventService(UserRepository userRepository, EventRepository eventRepository, CurrentUserService currentUserService,
+                              KnownEventIds knownEventIds, EventCounters eventCounters, MembershipWriteBuffer membershipWriteBuffer,
+                              MembershipWriter membershipWriter, MembershipIdCache membershipIdCache) {
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.currentUserService = currentUserService;
+        this.knownEventIds = knownEventIds;
+        this.eventCounters = eventCounters;
+        this.membershipWriteBuffer = membershipWriteBuffer;
+        this.membershipWriter = membershipWriter;
+        this.membershipIdCache = membershipIdCache;
     }
 
-    @Transactional
+    // Not transactional: the buffered path shouldn't hold a connection, and the statement runs in its own transaction
     public void attendEvent(Long eventId) {
-        User user = currentUserService.getCurrentUserWithAttendingEvents();
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(EventNotFoundException::new);
-
-        user.getAttendingEvents().add(event);
-
-        userRepository.save(user);
+        requireEvent(eventId);
+        Long userId = currentUserService.getCurrentUserId();
+        if (membershipWriteBuffer.isEnabled()) {
+            membershipWriteBuffer.record(MembershipKind.ATTENDING, userId, eventId, true);
+        } else if (userRepository.insertAttendingEvent(userId, eventId) == 1) {
+            // Only a row that actually changed moves the counter, so repeated toggles are idempotent
+            eventCounters.attendeeAdded(eventId);
+        }
+        membershipIdCache.changed(MembershipKind.ATTENDING, userId, eventId, true);
     }
 
-    @Transactional
     public void unattendEvent(Long eventId) {
-        User user = currentUserService.getCurrentUserWithAttendingEvents();
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(EventNotFoundException::new);
+        requireEvent(eventId);
+        Long userId = currentUserService.getCurrentUserId();
+        if (membershipWriteBuffer.isEnabled()) {
+            membershipWriteBuffer.record(MembershipKind.ATTENDING, userId, eventId, false);
+        } else if (userRepository.deleteAttendingEvent(userId, eventId) == 1) {
+            eventCounters.attendeeRemoved(eventId);
+        }
+        membershipIdCache.changed(MembershipKind.ATTENDING, userId, eventId, false);
+    }
 
-        user.getAttendingEvents().remove(event);
+    /**
+     * Attends several events in one transaction. Ids of events that no longer exist are skipped, so a client replaying
+     * an offline queue isn't failed by one deleted event. Not transactional, like the single toggles: the buffered path
+     * only records the states, and the direct write opens its own transaction.
+     */
+    public void attendEvents(List<Long> ids) {
+        write(ids, true);
+    }
 
-        userRepository.save(user);
+    public void unattendEvents(List<Long> ids) {
+        write(ids, false);
     }
 
     @Transactional(readOnly = true)
     public Set<EventDto> getAttendingEvents() {
-        User user = currentUserService.getCurrentUserWithAttendingEvents();
+        // IDs first, then one batched fetch of the events with their categories: two statements for any N
+        MembershipWriteBuffer.PendingView pending =
+                membershipWriteBuffer.pendingFor(MembershipKind.ATTENDING, currentUserService::getCurrentUserId);
+        List<Long> eventIds = pending.applyTo(userRepository.findAttendingEventIdsByEmail(currentUserService.getCurrentUserEmail()));
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(EventRow.toDtos(eventRepository.findRowsByIdIn(eventIds)));
+    }
+
+    private void write(List<Long> ids, boolean present) {
+        List<Long> eventIds = knownIds(ids);
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Long userId = currentUserService.getCurrentUserId();
+        membershipIdCache.changed(MembershipKind.ATTENDING, userId, eventIds, present);
+        if (membershipWriteBuffer.isEnabled()) {
+            eventIds.forEach(eventId -> membershipWriteBuffer.record(MembershipKind.ATTENDING, userId, eventId, present));
+        } else {
+            membershipWriter.write(MembershipKind.ATTENDING, userId, eventIds, present);
+        }
+    }
+
+    private List<Long> knownIds(List<Long> ids) {
+        return EventIdBatch.distinct(ids).stream().filter(knownEventIds::contains).toList();
+    }
 
-        return user.getAttendingEvents().stream()
-                .map(EventDto::new)
-                .collect(Collectors.toSet());
+    private void requireEvent(Long eventId) {
+        if (!knownEventIds.contains(eventId)) {
+            throw new EventNotFoundException();
+        }
     }
-}
\ No newline at end of file
+}
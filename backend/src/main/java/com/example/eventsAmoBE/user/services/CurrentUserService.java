@@ -2,8 +2,11 @@ package com.example.eventsAmoBE.user.services;
 
 //import com.example.eventsAmoBE.event.model.City;
 import com.example.eventsAmoBE.exceptions.UserNotFoundException;
+import com.example.eventsAmoBE.security.JwtPrincipal;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
 import com.example.eventsAmoBE.user.UserRepository;
 import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.model.UserSnapshot;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.Authentication;
@@ -16,35 +19,49 @@ import java.util.Optional;
 public class CurrentUserService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
 
-    public CurrentUserService(UserRepository userRepository) {
+    public CurrentUserService(UserRepository userRepository, TokenRevocationList tokenRevocationList) {
         this.userRepository = userRepository;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
-    @Cacheable(value = "currentUser")
-    public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
+    // Keyed by principal email; writers evict just that key
+    @Cacheable(value = "currentUser", key = "#root.target.getCurrentUserEmail()")
+    public UserSnapshot getCurrentUser() {
+        return userRepository.findByEmail(getCurrentUserEmail())
+                .map(UserSnapshot::of)
+                .orElseThrow(UserNotFoundException::new);
+    }
+
+    /**
+     * Managed entity of the current user, for services that modify it. Never cached.
+     */
+    public User getCurrentUserEntity() {
+        return userRepository.findByEmail(getCurrentUserEmail())
                 .orElseThrow(UserNotFoundException::new);
     }
 
-    @CacheEvict(value = "currentUser", allEntries = true)
+    @CacheEvict(value = "currentUser", key = "#root.target.getCurrentUserEmail()")
     public void deleteCurrentUser() {
-        userRepository.delete(getCurrentUser());
+        User user = getCurrentUserEntity();
+        userRepository.delete(user);
+        tokenRevocationList.revokeAllFor(user.getId());
     }
 
-    public User getCurrentUserWithSavedEvents() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmailWithSavedEvents(email)
-                .orElseThrow(UserNotFoundException::new);
+    public String getCurrentUserEmail() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
     }
 
-    public User getCurrentUserWithAttendingEvents() {
+    /**
+     * Id of the current user, read from the token principal; only principals without one cost a lookup.
+     */
+    public Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmailWithAttendingEvents(email)
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getId();
+        }
+        return userRepository.findIdByEmail(authentication.getName())
                 .orElseThrow(UserNotFoundException::new);
     }
 
@@ -0,0 +1,54 @@
+package com.example.eventsAmoBE.user.services;
+
+import com.example.eventsAmoBE.user.UserRepository;
+import com.example.eventsAmoBE.user.membership.MembershipKind;
+import com.example.eventsAmoBE.user.membership.MembershipWriteBuffer;
+import com.example.eventsAmoBE.user.model.EventMembershipDto;
+import com.example.eventsAmoBE.utils.EventIdBatch;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class EventMembershipService {
+
+    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final MembershipWriteBuffer membershipWriteBuffer;
+
+    public EventMembershipService(UserRepository userRepository, CurrentUserService currentUserService,
+                                  MembershipWriteBuffer membershipWriteBuffer) {
+        this.userRepository = userRepository;
+        this.currentUserService = currentUserService;
+        this.membershipWriteBuffer = membershipWriteBuffer;
+    }
+
+    /**
+     * Membership of the current user in the given events, e.g. the ones on the page being rendered. Both lookups are
+     * served by the junction tables' primary keys.
+     */
+    @Transactional(readOnly = true)
+    public EventMembershipDto execute(List<Long> ids) {
+        List<Long> eventIds = EventIdBatch.distinct(ids);
+        if (eventIds.isEmpty()) {
+            return new EventMembershipDto(List.of(), List.of());
+        }
+        Long userId = currentUserService.getCurrentUserId();
+
+        MembershipWriteBuffer.PendingView pendingSaved = membershipWriteBuffer.pendingFor(MembershipKind.SAVED, () -> userId);
+        MembershipWriteBuffer.PendingView pendingAttending = membershipWriteBuffer.pendingFor(MembershipKind.ATTENDING, () -> userId);
+        List<Long> saved = pendingSaved.applyTo(userRepository.findSavedEventIdsAmong(userId, eventIds));
+        List<Long> attending = pendingAttending.applyTo(userRepository.findAttendingEventIdsAmong(userId, eventIds));
+
+        return new EventMembershipDto(inRequestOrder(eventIds, saved), inRequestOrder(eventIds, attending));
+    }
+
+    // Also drops pending ids the caller didn't ask about
+    private static List<Long> inRequestOrder(List<Long> requested, List<Long> members) {
+        Set<Long> memberSet = new HashSet<>(members);
+        return requested.stream().filter(memberSet::contains).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.eventsAmoBE.user.services;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.user.UserRepository;
+import com.example.eventsAmoBE.user.membership.MembershipKind;
+import com.example.eventsAmoBE.user.membership.MembershipWriteBuffer;
+import com.example.eventsAmoBE.utils.EventCursor;
+import com.example.eventsAmoBE.utils.PageResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class MembershipPageService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Seek position before any event, for lists that include past ones
+    private static final EventCursor BEFORE_ALL = new EventCursor(null, LocalDateTime.of(1000, 1, 1, 0, 0), 0);
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final CurrentUserService currentUserService;
+    private final MembershipWriteBuffer membershipWriteBuffer;
+
+    public MembershipPageService(UserRepository userRepository, EventRepository eventRepository,
+                                 CurrentUserService currentUserService, MembershipWriteBuffer membershipWriteBuffer) {
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.currentUserService = currentUserService;
+        this.membershipWriteBuffer = membershipWriteBuffer;
+    }
+
+    /**
+     * A keyset page of the current user's saved or attended events in {@code (startDateTime, id)} order, starting
+     * after {@code after}, or at the first upcoming event (or the first event at all with {@code includePast}).
+     * Two statements per page: the ids from the junction table, then the events with their categories.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<EventDto> execute(MembershipKind kind, int size, EventCursor after, boolean includePast) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        EventCursor from = after != null ? after
+                : includePast ? BEFORE_ALL
+                : new EventCursor(null, LocalDateTime.now(), Long.MAX_VALUE);
+        Long userId = currentUserService.getCurrentUserId();
+
+        Map<Long, Boolean> pending = membershipWriteBuffer.pendingFor(kind, () -> userId).states();
+        int removals = (int) pending.values().stream().filter(present -> !present).count();
+        int limit = pageSize + 1 + removals;
+
+        List<Long> persisted = kind == MembershipKind.SAVED
+                ? userRepository.findSavedEventIdsAfter(userId, from.startDateTime(), from.id(), limit)
+                : userRepository.findAttendingEventIdsAfter(userId, from.startDateTime(), from.id(), limit);
+        boolean exhausted = persisted.size() < limit;
+
+        Set<Long> ids = new LinkedHashSet<>(persisted);
+        pending.forEach((eventId, present) -> {
+            if (present) {
+                ids.add(eventId);
+            }
+        });
+        if (ids.isEmpty()) {
+            return page(List.of(), pageSize, false);
+        }
+
+        List<EventDto> events = new ArrayList<>(EventRow.toDtos(eventRepository.findRowsByIdIn(ids)).stream()
+                .filter(event -> from.compareByStart(event) > 0)
+                .sorted(Comparator.comparing(EventDto::getStartDateTime).thenComparing(EventDto::getId))
+                .toList());
+
+        // Pending additions past the last persisted id can't be placed yet; they show up on a later page
+        if (!exhausted) {
+            Long lastId = persisted.get(persisted.size() - 1);
+            events.stream()
+                    .filter(event -> event.getId().equals(lastId))
+                    .findFirst()
+                    .map(EventCursor::byStart)
+                    .ifPresent(last -> events.removeIf(event -> last.compareByStart(event) > 0));
+        }
+        events.removeIf(event -> Boolean.FALSE.equals(pending.get(event.getId())));
+
+        boolean hasNext = events.size() > pageSize || !exhausted;
+        return page(events.subList(0, Math.min(pageSize, events.size())), pageSize, hasNext);
+    }
+
+    private static PageResponse<EventDto> page(List<EventDto> content, int pageSize, boolean hasNext) {
+        String nextCursor = hasNext && !content.isEmpty() ? EventCursor.byStart(content.get(content.size() - 1)).encode() : null;
+        return new PageResponse<>(List.copyOf(content), 0, pageSize, null, null, content.size(), !hasNext, hasNext, nextCursor);
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.eventsAmoBE.user.services;
 
+import com.example.eventsAmoBE.security.JwtService;
+import com.example.eventsAmoBE.security.PasswordHashingExecutor;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
 import com.example.eventsAmoBE.user.UserRepository;
 import com.example.eventsAmoBE.user.model.ProfileChangeRequest;
 import com.example.eventsAmoBE.user.model.User;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,20 +16,26 @@ public class ProfileUpdateService {
 
     private final UserRepository userRepository;
     private final CurrentUserService currentUserService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtService jwtService;
 
-    public ProfileUpdateService(UserRepository userRepository, CurrentUserService currentUserService, PasswordEncoder passwordEncoder) {
+    public ProfileUpdateService(UserRepository userRepository, CurrentUserService currentUserService, PasswordHashingExecutor passwordHashing,
+                                TokenRevocationList tokenRevocationList, JwtService jwtService) {
         this.userRepository = userRepository;
         this.currentUserService = currentUserService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtService = jwtService;
     }
 //    private final EmailVerificationService emailVerificationService;
 //    private final EmailService emailService;
 
     @Transactional
+    @CacheEvict(value = "currentUser", key = "#result.email")
     public User updateProfile(String newName, String newLastName) {
         // Get current user
-        User currentUser = currentUserService.getCurrentUser();
+        User currentUser = currentUserService.getCurrentUserEntity();
 
         // Update only name and lastName
         currentUser.setName(newName);
@@ -37,9 +46,10 @@ public class ProfileUpdateService {
     }
 
     @Transactional
+    @CacheEvict(value = "currentUser", key = "#result.email")
     public User updateAvatar(int avatarId) {
         // Get current user
-        User currentUser = currentUserService.getCurrentUser();
+        User currentUser = currentUserService.getCurrentUserEntity();
 
         // Update avatar ID
         currentUser.setAvatarId(avatarId);
@@ -48,20 +58,25 @@ public class ProfileUpdateService {
         return currentUser;
     }
 
+    /**
+     * Changes the password and revokes every token issued so far; returns a fresh token for the caller.
+     */
     @Transactional
-    public void updatePassword(String currentPassword, String newPassword) {
-        // Get current user
-        User currentUser = currentUserService.getCurrentUser();
+    public String updatePassword(String currentPassword, String newPassword) {
+        // Get current user; the cached snapshot holds no password, so nothing to evict
+        User currentUser = currentUserService.getCurrentUserEntity();
 
-        // Verify current password
-        if (!passwordEncoder.matches(currentPassword, currentUser.getPassword())) {
+        // Verify current password; both hashes run on the bounded hashing pool, like logins
+        if (!passwordHashing.matches(currentPassword, currentUser.getPassword())) {
             throw new BadCredentialsException("Current password is incorrect");
         }
 
         // Update password with encoded new password
-        currentUser.setPassword(passwordEncoder.encode(newPassword));
+        currentUser.setPassword(passwordHashing.encode(newPassword));
 
         userRepository.save(currentUser);
+        tokenRevocationList.revokeAllFor(currentUser.getId());
+        return jwtService.generateToken(currentUser);
     }
 
 //    @Transactional
@@ -70,7 +85,7 @@ public class ProfileUpdateService {
 //        User currentUser = currentUserService.getCurrentUser();
 //
 //        // Verify current password
-//        if (!passwordEncoder.matches(currentPassword, currentUser.getPassword())) {
+//        if (!passwordHashing.matches(currentPassword, currentUser.getPassword())) {
 //            throw new BadCredentialsException("Current password is incorrect");
 //        }
 //
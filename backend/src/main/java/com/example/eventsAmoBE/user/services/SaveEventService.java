@@ -1,16 +1,23 @@
 package com.example.eventsAmoBE.user.services;
 
 import com.example.eventsAmoBE.event.EventRepository;
-import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.catalog.EventCounters;
+import com.example.eventsAmoBE.event.catalog.KnownEventIds;
 import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
 import com.example.eventsAmoBE.exceptions.EventNotFoundException;
 import com.example.eventsAmoBE.user.UserRepository;
-import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.membership.MembershipIdCache;
+import com.example.eventsAmoBE.user.membership.MembershipKind;
+import com.example.eventsAmoBE.user.membership.MembershipWriteBuffer;
+import com.example.eventsAmoBE.user.membership.MembershipWriter;
+import com.example.eventsAmoBE.utils.EventIdBatch;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 public class SaveEventService {
@@ -18,39 +25,96 @@ public class SaveEventService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final CurrentUserService currentUserService;
+    private final KnownEventIds knownEventIds;
+    private final EventCounters eventCounters;
+    private final MembershipWriteBuffer membershipWriteBuffer;
+    private final MembershipWriter membershipWriter;
+    private final MembershipIdCache membershipIdCache;
 
-    public SaveEventService(UserRepository userRepository, EventRepository eventRepository, CurrentUserService currentUserService) {
+    public SaveEventService(UserRepository userRepository, EventRepository eventRepository, CurrentUserService currentUserService,
+                            KnownEventIds knownEventIds, EventCounters eventCounters, MembershipWriteBuffer membershipWriteBuffer,
+                            MembershipWriter membershipWriter, MembershipIdCache membershipIdCache) {
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.currentUserService = currentUserService;
+        this.knownEventIds = knownEventIds;
+        this.eventCounters = eventCounters;
+        this.membershipWriteBuffer = membershipWriteBuffer;
+        this.membershipWriter = membershipWriter;
+        this.membershipIdCache = membershipIdCache;
     }
 
-    @Transactional
+    // Not transactional: the buffered path shouldn't hold a connection, and the statement runs in its own transaction
     public void saveEvent(Long eventId) {
-        User user = currentUserService.getCurrentUserWithSavedEvents();
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(EventNotFoundException::new);
-
-        user.getSavedEvents().add(event);
-        userRepository.save(user);
+        requireEvent(eventId);
+        Long userId = currentUserService.getCurrentUserId();
+        if (membershipWriteBuffer.isEnabled()) {
+            membershipWriteBuffer.record(MembershipKind.SAVED, userId, eventId, true);
+        } else if (userRepository.insertSavedEvent(userId, eventId) == 1) {
+            // Only a row that actually changed moves the counter, so repeated toggles are idempotent
+            eventCounters.saveAdded(eventId);
+        }
+        membershipIdCache.changed(MembershipKind.SAVED, userId, eventId, true);
     }
 
-    @Transactional
     public void unsaveEvent(Long eventId) {
-        User user = currentUserService.getCurrentUserWithSavedEvents();
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(EventNotFoundException::new);
+        requireEvent(eventId);
+        Long userId = currentUserService.getCurrentUserId();
+        if (membershipWriteBuffer.isEnabled()) {
+            membershipWriteBuffer.record(MembershipKind.SAVED, userId, eventId, false);
+        } else if (userRepository.deleteSavedEvent(userId, eventId) == 1) {
+            eventCounters.saveRemoved(eventId);
+        }
+        membershipIdCache.changed(MembershipKind.SAVED, userId, eventId, false);
+    }
 
-        user.getSavedEvents().remove(event);
-        userRepository.save(user);
+    /**
+     * Saves several events in one transaction. Ids of events that no longer exist are skipped, so a client replaying
+     * an offline queue isn't failed by one deleted event. Not transactional, like the single toggles: the buffered path
+     * only records the states, and the direct write opens its own transaction.
+     */
+    public void saveEvents(List<Long> ids) {
+        write(ids, true);
+    }
+
+    public void unsaveEvents(List<Long> ids) {
+        write(ids, false);
     }
 
     @Transactional(readOnly = true)
     public Set<EventDto> getSavedEvents() {
-        User user = currentUserService.getCurrentUserWithSavedEvents();
+        // IDs first, then one batched fetch of the events with their categories: two statements for any N
+        MembershipWriteBuffer.PendingView pending =
+                membershipWriteBuffer.pendingFor(MembershipKind.SAVED, currentUserService::getCurrentUserId);
+        List<Long> eventIds = pending.applyTo(userRepository.findSavedEventIdsByEmail(currentUserService.getCurrentUserEmail()));
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(EventRow.toDtos(eventRepository.findRowsByIdIn(eventIds)));
+    }
+
+    private void write(List<Long> ids, boolean present) {
+        List<Long> eventIds = knownIds(ids);
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Long userId = currentUserService.getCurrentUserId();
+        membershipIdCache.changed(MembershipKind.SAVED, userId, eventIds, present);
+        if (membershipWriteBuffer.isEnabled()) {
+            eventIds.forEach(eventId -> membershipWriteBuffer.record(MembershipKind.SAVED, userId, eventId, present));
+        } else {
+            membershipWriter.write(MembershipKind.SAVED, userId, eventIds, present);
+        }
+    }
+
+    private List<Long> knownIds(List<Long> ids) {
+        return EventIdBatch.distinct(ids).stream().filter(knownEventIds::contains).toList();
+    }
 
-        return user.getSavedEvents().stream()
-                .map(EventDto::new)
-                .collect(Collectors.toSet());
+    private void requireEvent(Long eventId) {
+        if (!knownEventIds.contains(eventId)) {
+            throw new EventNotFoundException();
+        }
     }
 }
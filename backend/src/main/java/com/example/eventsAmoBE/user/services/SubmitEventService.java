@@ -1,7 +1,7 @@
 package com.example.eventsAmoBE.user.services;
 
 import com.example.eventsAmoBE.event.model.Event;
-import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.model.UserSnapshot;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.core.io.ByteArrayResource;
@@ -24,7 +24,7 @@ public class SubmitEventService {
     }
 
     @Async
-    public void submitEventProposal(User user, Event event, List<MultipartFile> images)  {
+    public void submitEventProposal(UserSnapshot user, Event event, List<MultipartFile> images)  {
 
         // Send email to admin with event proposal
         try {
@@ -34,7 +34,7 @@ public class SubmitEventService {
         }
     }
 
-    private void sendEventProposalEmail(User user, Event event, List<MultipartFile> images) throws MessagingException {
+    private void sendEventProposalEmail(UserSnapshot user, Event event, List<MultipartFile> images) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
 
@@ -50,7 +50,7 @@ public class SubmitEventService {
                         "Date & Time: %s\n" +
                         "Price: %s\n" +
                         "Categories: %s\n",
-                user.getName(), user.getLastName(), user.getEmail(),
+                user.name(), user.lastName(), user.email(),
                 event.getName(), event.getDescription(), event.getAddress(),
                 event.getStartDateTime(), event.getPrice(), event.getCategories()
         );
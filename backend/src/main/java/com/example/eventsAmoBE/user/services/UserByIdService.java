@@ -1,8 +1,12 @@
 package com.example.eventsAmoBE.user.services;
 
 import com.example.eventsAmoBE.exceptions.UserNotFoundException;
+import com.example.eventsAmoBE.security.SecurityVersionRegistry;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
 import com.example.eventsAmoBE.user.UserRepository;
 import com.example.eventsAmoBE.user.model.User;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,9 +15,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserByIdService {
 
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final TokenRevocationList tokenRevocationList;
 
-    public UserByIdService(UserRepository userRepository) {
+    public UserByIdService(UserRepository userRepository, CacheManager cacheManager, SecurityVersionRegistry securityVersionRegistry,
+                           TokenRevocationList tokenRevocationList) {
         this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        this.securityVersionRegistry = securityVersionRegistry;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     public User getUserById(Long id) {
@@ -22,14 +33,15 @@ public class UserByIdService {
     }
 
     @Transactional
-    @CacheEvict(value = "currentUser", allEntries = true)
     public void deleteUserById(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        tokenRevocationList.revokeAllFor(id);
+        evictCurrentUser(user.getEmail());
     }
 
     @Transactional
-    @CacheEvict(value = "currentUser", allEntries = true)
+    @CacheEvict(value = "currentUser", key = "#result.email")
     public User updateUserById(Long id, User userDetails) {
         User user = getUserById(id);
 
@@ -42,11 +54,20 @@ public class UserByIdService {
     }
 
     @Transactional
-    @CacheEvict(value = "currentUser", allEntries = true)
+    @CacheEvict(value = "currentUser", key = "#email")
     public User makeUserAdminByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
         user.setAdmin(true);
+        // Tokens issued before this carry the old roles; the version bump makes them fall back to a fresh lookup
+        securityVersionRegistry.bump(user);
         return userRepository.save(user);
     }
+
+    private void evictCurrentUser(String email) {
+        Cache cache = cacheManager.getCache("currentUser");
+        if (cache != null) {
+            cache.evict(email);
+        }
+    }
 }
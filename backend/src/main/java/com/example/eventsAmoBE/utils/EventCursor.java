@@ -0,0 +1,108 @@
+package com.example.eventsAmoBE.utils;
+
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in an event listing: the sort key of the last event the client has seen.
+ * Date-ordered lists seek on {@code (startDateTime, id)}, priority-ordered lists on {@code (priority, startDateTime, id)}
+ * and search results on {@code (score, startDateTime, id)}.
+ */
+public record EventCursor(Integer priority, LocalDateTime startDateTime, long id, Double score) {
+
+    private static final String SEPARATOR = "~";
+
+    public EventCursor(Integer priority, LocalDateTime startDateTime, long id) {
+        this(priority, startDateTime, id, null);
+    }
+
+    public static EventCursor byStart(EventDto event) {
+        return new EventCursor(null, event.getStartDateTime(), event.getId());
+    }
+
+    public static EventCursor byPriority(EventDto event) {
+        return new EventCursor(event.getPriority(), event.getStartDateTime(), event.getId());
+    }
+
+    public static EventCursor byRelevance(EventDto event, double score) {
+        return new EventCursor(null, event.getStartDateTime(), event.getId(), score);
+    }
+
+    public String encode() {
+        String raw = (priority != null ? priority : "") + SEPARATOR + startDateTime + SEPARATOR + id
+                + (score != null ? SEPARATOR + score : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} when no cursor was sent (first page)
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3 && parts.length != 4) {
+                throw new InvalidCursorException();
+            }
+            Integer priority = parts[0].isEmpty() ? null : Integer.valueOf(parts[0]);
+            Double score = parts.length == 4 ? Double.valueOf(parts[3]) : null;
+            return new EventCursor(priority, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]), score);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public EventCursor requirePriority() {
+        if (priority == null) {
+            throw new InvalidCursorException();
+        }
+        return this;
+    }
+
+    public EventCursor requireScore() {
+        if (score == null) {
+            throw new InvalidCursorException();
+        }
+        return this;
+    }
+
+    /**
+     * Compares an event against this cursor in {@code (startDateTime, id)} order.
+     */
+    public int compareByStart(EventDto event) {
+        int byStart = event.getStartDateTime().compareTo(startDateTime);
+        return byStart != 0 ? byStart : Long.compare(event.getId(), id);
+    }
+
+    /**
+     * Compares an event against this cursor in {@code (priority DESC, startDateTime, id)} order.
+     */
+    public int compareByPriority(EventDto event) {
+        int byPriority = Integer.compare(requirePriority().priority, event.getPriority());
+        return byPriority != 0 ? byPriority : compareByStart(event);
+    }
+
+    /**
+     * Compares a scored event against this cursor in {@code (score DESC, startDateTime, id)} order.
+     */
+    public int compareByRelevance(EventDto event, double eventScore) {
+        return compareByRelevance(event.getStartDateTime(), event.getId(), eventScore);
+    }
+
+    public int compareByRelevance(LocalDateTime eventStart, long eventId, double eventScore) {
+        int byScore = Double.compare(requireScore().score, eventScore);
+        if (byScore != 0) {
+            return byScore;
+        }
+        int byStart = eventStart.compareTo(startDateTime);
+        return byStart != 0 ? byStart : Long.compare(eventId, id);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.eventsAmoBE.utils;
+
+import com.example.eventsAmoBE.exceptions.BatchTooLargeException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Event ids sent to a batch endpoint, de-duplicated in request order and capped so one request can't build an
+ * unbounded IN list.
+ */
+public final class EventIdBatch {
+
+    public static final int MAX_SIZE = 200;
+
+    private EventIdBatch() {
+    }
+
+    public static List<Long> distinct(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids.stream().filter(Objects::nonNull).toList()));
+        if (distinct.size() > MAX_SIZE) {
+            throw new BatchTooLargeException();
+        }
+        return distinct;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -17,10 +18,13 @@ public class PageResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    // Left null in slice mode, where no COUNT is run and clients page by hasNext
+    private Long totalElements;
+    private Integer totalPages;
     private int currentPageNumberOfElements;
     private boolean last;
+    private boolean hasNext;
+    private String nextCursor;
 
     public PageResponse (Page<T> page){
         this.content = page.getContent();
@@ -30,5 +34,23 @@ public class PageResponse<T> {
         this.totalPages = page.getTotalPages();
         this.currentPageNumberOfElements = page.getNumberOfElements();
         this.last = page.isLast();
+        this.hasNext = page.hasNext();
+    }
+
+    /**
+     * Same page position with different content, e.g. annotated copies of the cached elements.
+     */
+    public <R> PageResponse<R> withContent(List<R> content) {
+        return new PageResponse<>(content, pageNumber, pageSize, totalElements, totalPages, currentPageNumberOfElements,
+                last, hasNext, nextCursor);
+    }
+
+    public PageResponse (Slice<T> slice){
+        this.content = slice.getContent();
+        this.pageNumber = slice.getNumber();
+        this.pageSize = slice.getSize();
+        this.currentPageNumberOfElements = slice.getNumberOfElements();
+        this.last = slice.isLast();
+        this.hasNext = slice.hasNext();
     }
 }
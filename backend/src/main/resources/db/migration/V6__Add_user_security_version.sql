@@ -0,0 +1,3 @@
+-- Bumped whenever a user's roles change; tokens carry the version they were issued with
+ALTER TABLE users
+ADD COLUMN security_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Individually revoked tokens (logout), kept until the token would have expired anyway
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+
+-- Tokens of a user issued before not_before are rejected (password change, account deletion)
+CREATE TABLE user_token_cutoffs (
+    user_id BIGINT PRIMARY KEY,
+    not_before TIMESTAMP NOT NULL
+);
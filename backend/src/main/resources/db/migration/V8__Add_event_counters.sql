@@ -0,0 +1,8 @@
+-- Denormalized counters, kept current by periodic batched updates and a nightly reconciliation
+ALTER TABLE event
+ADD COLUMN attendee_count INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN saved_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE event e
+SET e.attendee_count = (SELECT COUNT(*) FROM user_attending_events a WHERE a.event_id = e.id),
+    e.saved_count = (SELECT COUNT(*) FROM user_saved_events s WHERE s.event_id = e.id);
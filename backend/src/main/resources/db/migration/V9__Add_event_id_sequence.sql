@@ -0,0 +1,8 @@
+-- Pooled id allocation for events. MySQL has no sequences, so this one-row table stands in for one: Hibernate and
+-- the bulk import both claim blocks of 50 ids by advancing next_val. Starts past the ids AUTO_INCREMENT handed out.
+CREATE TABLE event_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO event_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM event;
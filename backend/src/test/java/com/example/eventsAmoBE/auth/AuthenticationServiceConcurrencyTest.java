@@ -0,0 +1,129 @@
+package com.example.eventsAmoBE.auth;
+
+import com.example.eventsAmoBE.exceptions.InvalidCredentialsException;
+import com.example.eventsAmoBE.exceptions.TooManyRequestsException;
+import com.example.eventsAmoBE.security.JwtService;
+import com.example.eventsAmoBE.security.PasswordHashingExecutor;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
+import com.example.eventsAmoBE.user.UserRepository;
+import com.example.eventsAmoBE.user.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Concurrency behaviour of logins through the hashing executor. Throughput is measured separately by
+ * {@link LoginThroughputBenchmarkTest}.
+ */
+class AuthenticationServiceConcurrencyTest {
+
+    private static final int LOGINS = 40;
+    private static final int CLIENTS = 16;
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = spy(new BCryptPasswordEncoder(6));
+        User user = User.builder().id(1L).email("user@test.com").password(passwordEncoder.encode(PASSWORD)).build();
+        clearInvocations(passwordEncoder);
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail(argThat(email -> !"user@test.com".equals(email)))).thenReturn(Optional.empty());
+
+        jwtService = mock(JwtService.class);
+        when(jwtService.generateToken(any(User.class))).thenReturn("token");
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void loginsDoOneLookupAndOneHashEach() throws Exception {
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(passwordEncoder, meterRegistry, 2, LOGINS, 60_000);
+        AuthenticationService service = new AuthenticationService(userRepository, hashing, jwtService, mock(TokenRevocationList.class));
+
+        List<Future<AuthResponseDto>> results = runConcurrently(service, LOGINS);
+        for (Future<AuthResponseDto> result : results) {
+            assertThat(result.get().getToken()).isEqualTo("token");
+        }
+
+        verify(userRepository, times(LOGINS)).findByEmail("user@test.com");
+        verify(passwordEncoder, times(LOGINS)).matches(anyString(), anyString());
+    }
+
+    @Test
+    void burstBeyondQueueIsRejected() throws Exception {
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(passwordEncoder, meterRegistry, 1, 2, 60_000);
+        AuthenticationService service = new AuthenticationService(userRepository, hashing, jwtService, mock(TokenRevocationList.class));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        for (Future<AuthResponseDto> result : runConcurrently(service, 50)) {
+            try {
+                result.get();
+                succeeded.incrementAndGet();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(TooManyRequestsException.class);
+                rejected.incrementAndGet();
+            }
+        }
+
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(50);
+        assertThat(rejected.get()).isPositive();
+        assertThat(meterRegistry.get("auth.hashing.rejected").counter().count()).isEqualTo(rejected.get());
+    }
+
+    @Test
+    void wrongPasswordAndUnknownEmailAreIndistinguishable() {
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(passwordEncoder, meterRegistry, 1, 8, 60_000);
+        AuthenticationService service = new AuthenticationService(userRepository, hashing, jwtService, mock(TokenRevocationList.class));
+
+        assertThatThrownBy(() -> service.authenticate(request("user@test.com", "wrong")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        assertThatThrownBy(() -> service.authenticate(request("nobody@test.com", PASSWORD)))
+                .isInstanceOf(InvalidCredentialsException.class);
+
+        // An unknown email costs a hash comparison too, so timing doesn't tell which emails are registered
+        verify(passwordEncoder, times(2)).matches(anyString(), anyString());
+    }
+
+    private static List<Future<AuthResponseDto>> runConcurrently(AuthenticationService service, int logins) throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AuthResponseDto>> results = new ArrayList<>(logins);
+        for (int i = 0; i < logins; i++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                return service.authenticate(request("user@test.com", PASSWORD));
+            }));
+        }
+        start.countDown();
+        clients.shutdown();
+        assertThat(clients.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        return results;
+    }
+
+    private static AuthRequestDto request(String email, String password) {
+        AuthRequestDto request = new AuthRequestDto();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.eventsAmoBE.auth;
+
+import com.example.eventsAmoBE.security.JwtService;
+import com.example.eventsAmoBE.security.PasswordHashingExecutor;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
+import com.example.eventsAmoBE.user.UserRepository;
+import com.example.eventsAmoBE.user.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Wall-clock login throughput on two hashing threads. Not part of the regular build; run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class LoginThroughputBenchmarkTest {
+
+    private static final int LOGINS = 200;
+    private static final int CLIENTS = 16;
+    private static final int HASHING_THREADS = 2;
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Test
+    void loginThroughput() throws Exception {
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(6);
+        User user = User.builder().id(1L).email("user@test.com").password(passwordEncoder.encode(PASSWORD)).build();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        JwtService jwtService = mock(JwtService.class);
+        when(jwtService.generateToken(any(User.class))).thenReturn("token");
+
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(passwordEncoder, new SimpleMeterRegistry(),
+                HASHING_THREADS, LOGINS, 60_000);
+        AuthenticationService service = new AuthenticationService(userRepository, hashing, jwtService, mock(TokenRevocationList.class));
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long started = System.nanoTime();
+        List<Future<AuthResponseDto>> results = new ArrayList<>(LOGINS);
+        for (int i = 0; i < LOGINS; i++) {
+            results.add(clients.submit(() -> service.authenticate(request())));
+        }
+        for (Future<AuthResponseDto> result : results) {
+            assertThat(result.get().getToken()).isEqualTo("token");
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        clients.shutdown();
+
+        log.info("Login throughput: {} logins in {} s ({} per second) on {} hashing threads",
+                LOGINS, String.format("%.2f", seconds), Math.round(LOGINS / seconds), HASHING_THREADS);
+    }
+
+    private static AuthRequestDto request() {
+        AuthRequestDto request = new AuthRequestDto();
+        request.setEmail("user@test.com");
+        request.setPassword(PASSWORD);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.utils.PageResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryFormatsConfigTest {
+
+    static final int EVENTS_PER_PAGE = 50;
+
+    private final Map<String, ObjectMapper> mappers = mappers();
+    private final PageResponse<EventDto> page = page();
+
+    @Test
+    void binaryFormatsFollowJsonAndCarryTheSameContent() throws Exception {
+        assertThat(mappers.keySet()).containsExactly("json", "cbor", "x-jackson-smile");
+
+        JsonNode json = mappers.get("json").readTree(mappers.get("json").writeValueAsBytes(page));
+        for (String format : List.of("cbor", "x-jackson-smile")) {
+            ObjectMapper mapper = mappers.get(format);
+            assertThat(mapper.readTree(mapper.writeValueAsBytes(page))).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void binaryFormatsAreSmallerThanJson() throws Exception {
+        int jsonSize = mappers.get("json").writeValueAsBytes(page).length;
+        for (String format : List.of("cbor", "x-jackson-smile")) {
+            assertThat(mappers.get(format).writeValueAsBytes(page).length).isLessThan(jsonSize);
+        }
+    }
+
+    /**
+     * The object mapper of every Jackson converter once {@link BinaryFormatsConfig} has run, keyed by media subtype
+     * in converter order.
+     */
+    static Map<String, ObjectMapper> mappers() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("jacksonObjectMapperBuilder", builder);
+
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(builder.build()));
+        new BinaryFormatsConfig(beans.getBeanProvider(Jackson2ObjectMapperBuilder.class)).extendMessageConverters(converters);
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        for (HttpMessageConverter<?> converter : converters) {
+            AbstractJackson2HttpMessageConverter jackson = (AbstractJackson2HttpMessageConverter) converter;
+            mappers.put(jackson.getSupportedMediaTypes().get(0).getSubtype(), jackson.getObjectMapper());
+        }
+        return mappers;
+    }
+
+    // A full listing page, as the catalog endpoints return it
+    static PageResponse<EventDto> page() {
+        List<EventDto> events = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2026, 6, 1, 20, 0);
+        for (long id = 1; id <= EVENTS_PER_PAGE; id++) {
+            EventRow row = new EventRow(id, "Summer concert " + id, "Open air concert with local bands, night " + id,
+                    "https://cdn.example.com/events/" + id + ".jpg", City.SPAIN, "Main square " + id,
+                    start.plusHours(id), 10.0 + id, (int) (id % 5), id % 10 == 0, id % 7 == 0, (int) id * 3, (int) id * 7,
+                    null);
+            events.add(new EventDto(row, Set.of(Category.MUSIC, Category.ART)));
+        }
+        return new PageResponse<>(events, 0, EVENTS_PER_PAGE, null, null, EVENTS_PER_PAGE, false, true, "cursor");
+    }
+}
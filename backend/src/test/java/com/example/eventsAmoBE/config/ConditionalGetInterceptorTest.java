@@ -0,0 +1,116 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.catalog.CatalogRevision;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.security.JwtPrincipal;
+import com.example.eventsAmoBE.user.membership.MembershipIdCache;
+import com.example.eventsAmoBE.user.membership.UserMemberships;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConditionalGetInterceptorTest {
+
+    private UpcomingEventIndex upcomingEventIndex;
+    private MembershipIdCache membershipIdCache;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        upcomingEventIndex = mock(UpcomingEventIndex.class);
+        when(upcomingEventIndex.revision(any())).thenReturn(new CatalogRevision(7, 0, 1_000_000));
+        when(upcomingEventIndex.find(any())).thenReturn(Optional.empty());
+        when(upcomingEventIndex.find(1L)).thenReturn(Optional.of(mock(EventDto.class)));
+        membershipIdCache = mock(MembershipIdCache.class);
+        interceptor = new ConditionalGetInterceptor(upcomingEventIndex, membershipIdCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentTagIsAnsweredWithNotModified() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request("/events"), first, null)).isTrue();
+        String etag = first.getHeader("ETag");
+        assertThat(etag).isEqualTo("\"7.0\"");
+
+        MockHttpServletRequest revalidation = request("/events");
+        revalidation.addHeader("If-None-Match", etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(revalidation, second, null)).isFalse();
+        assertThat(second.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void binaryFormatsGetTheirOwnTag() throws Exception {
+        MockHttpServletRequest cbor = request("/events");
+        cbor.addHeader("Accept", "application/cbor");
+        cbor.addHeader("If-None-Match", "\"7.0\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(cbor, response, null)).isTrue();
+        assertThat(response.getHeader("ETag")).isEqualTo("\"7.0.cbor\"");
+    }
+
+    @Test
+    void authenticatedTagFollowsTheMembershipVersion() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(new JwtPrincipal(5L, "user@test.com", List.of()), null));
+        when(membershipIdCache.get(5L)).thenReturn(UserMemberships.of(List.of(), List.of(), 3));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request("/events"), response, null);
+
+        assertThat(response.getHeader("ETag")).isEqualTo("\"7.0.3\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("private, no-cache");
+        assertThat(response.getHeader("Last-Modified")).isNull();
+    }
+
+    @Test
+    void lookupsThatReachPastEventsAreNotTagged() throws Exception {
+        MockHttpServletRequest indexed = request("/eventGet/1");
+        indexed.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/eventGet/{id}");
+        indexed.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "1"));
+        MockHttpServletResponse indexedResponse = new MockHttpServletResponse();
+        interceptor.preHandle(indexed, indexedResponse, null);
+        assertThat(indexedResponse.getHeader("ETag")).isEqualTo("\"7.0\"");
+
+        MockHttpServletRequest past = request("/eventGet/2");
+        past.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/eventGet/{id}");
+        past.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "2"));
+        past.addHeader("If-None-Match", "\"7.0\"");
+        MockHttpServletResponse pastResponse = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(past, pastResponse, null)).isTrue();
+        assertThat(pastResponse.getHeader("ETag")).isNull();
+
+        MockHttpServletRequest batch = request("/events/batch");
+        batch.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/events/batch");
+        batch.setParameter("ids", "1,2");
+        batch.addHeader("If-None-Match", "\"7.0\"");
+        MockHttpServletResponse batchResponse = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(batch, batchResponse, null)).isTrue();
+        assertThat(batchResponse.getHeader("ETag")).isNull();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.catalog.CatalogRevision;
+import com.example.eventsAmoBE.event.catalog.HotPageCache;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.services.GetEventsService;
+import com.example.eventsAmoBE.event.services.GetMainEventsService;
+import com.example.eventsAmoBE.event.services.GetPromotedEventsService;
+import com.example.eventsAmoBE.utils.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class HotPageInterceptorTest {
+
+    private UpcomingEventIndex upcomingEventIndex;
+    private GetEventsService getEventsService;
+    private HotPageInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        upcomingEventIndex = mock(UpcomingEventIndex.class);
+        when(upcomingEventIndex.revision(any())).thenReturn(new CatalogRevision(1, 0, 0));
+
+        getEventsService = mock(GetEventsService.class);
+        when(getEventsService.execute(any(), isNull(), anyBoolean())).thenReturn(
+                new PageResponse<EventDto>(List.of(), 0, 10, 0L, 0, 0, true, false, null));
+
+        interceptor = new HotPageInterceptor(new HotPageCache(new ObjectMapper(), 16), upcomingEventIndex,
+                getEventsService, mock(GetMainEventsService.class), mock(GetPromotedEventsService.class));
+    }
+
+    @Test
+    void repeatedAnonymousRequestsAreServedFromOneSerialization() throws Exception {
+        MockHttpServletResponse first = handle(request("/events"));
+        MockHttpServletRequest gzipped = request("/events");
+        gzipped.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse second = handle(gzipped);
+
+        verify(getEventsService, times(1)).execute(any(), isNull(), anyBoolean());
+        assertThat(first.getContentAsString()).contains("\"pageSize\":10");
+        assertThat(first.getHeader("Content-Encoding")).isNull();
+        assertThat(second.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(second.getContentAsByteArray())).readAllBytes())
+                .isEqualTo(first.getContentAsByteArray());
+    }
+
+    @Test
+    void newRevisionRebuildsThePage() throws Exception {
+        handle(request("/events"));
+        when(upcomingEventIndex.revision(any())).thenReturn(new CatalogRevision(2, 0, 0));
+        handle(request("/events"));
+
+        verify(getEventsService, times(2)).execute(any(), isNull(), anyBoolean());
+    }
+
+    @Test
+    void personalOrUncommonRequestsGoThroughToTheController() throws Exception {
+        MockHttpServletRequest signedIn = request("/events");
+        signedIn.addHeader("Authorization", "Bearer token");
+        MockHttpServletRequest withCursor = request("/events");
+        withCursor.setParameter("cursor", "abc");
+        MockHttpServletRequest secondPage = request("/events");
+        secondPage.setParameter("page", "1");
+        MockHttpServletRequest binary = request("/events");
+        binary.addHeader("Accept", "application/cbor");
+
+        for (MockHttpServletRequest request : List.of(signedIn, withCursor, secondPage, binary)) {
+            assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), null)).isTrue();
+        }
+        verifyNoInteractions(getEventsService);
+    }
+
+    private MockHttpServletResponse handle(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, null)).isFalse();
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.eventsAmoBE.config;
+
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.utils.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+/**
+ * Write and parse times of a listing page in each wire format. Not part of the regular build; run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    void wireFormatTimings() throws Exception {
+        PageResponse<EventDto> page = BinaryFormatsConfigTest.page();
+        for (Map.Entry<String, ObjectMapper> entry : BinaryFormatsConfigTest.mappers().entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] body = mapper.writeValueAsBytes(page);
+            for (int i = 0; i < WARMUP; i++) {
+                mapper.readTree(mapper.writeValueAsBytes(page));
+            }
+
+            long started = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapper.writeValueAsBytes(page);
+            }
+            double writeMicros = (System.nanoTime() - started) / 1e3 / ITERATIONS;
+
+            started = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapper.readTree(body);
+            }
+            double readMicros = (System.nanoTime() - started) / 1e3 / ITERATIONS;
+
+            log.info("{}: {} bytes, write {} us, parse {} us (page of {} events)",
+                    MediaType.valueOf("application/" + entry.getKey()), body.length, String.format("%.1f", writeMicros),
+                    String.format("%.1f", readMicros), BinaryFormatsConfigTest.EVENTS_PER_PAGE);
+        }
+    }
+}
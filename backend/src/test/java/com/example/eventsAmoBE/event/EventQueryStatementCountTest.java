@@ -0,0 +1,178 @@
+package com.example.eventsAmoBE.event;
+
+import com.example.eventsAmoBE.event.catalog.EventCounters;
+import com.example.eventsAmoBE.event.catalog.KnownEventIds;
+import com.example.eventsAmoBE.event.catalog.UpcomingEventIndex;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.Event;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.services.GetEventService;
+import com.example.eventsAmoBE.security.JwtPrincipal;
+import com.example.eventsAmoBE.security.revocation.TokenRevocationList;
+import com.example.eventsAmoBE.user.UserRepository;
+import com.example.eventsAmoBE.user.membership.MembershipIdCache;
+import com.example.eventsAmoBE.user.membership.MembershipKind;
+import com.example.eventsAmoBE.user.membership.MembershipWriteBuffer;
+import com.example.eventsAmoBE.user.membership.MembershipWriter;
+import com.example.eventsAmoBE.user.model.User;
+import com.example.eventsAmoBE.user.services.AttendEventService;
+import com.example.eventsAmoBE.user.services.CurrentUserService;
+import com.example.eventsAmoBE.user.services.MembershipPageService;
+import com.example.eventsAmoBE.user.services.SaveEventService;
+import com.example.eventsAmoBE.utils.EventCursor;
+import com.example.eventsAmoBE.utils.PageResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EventQueryStatementCountTest {
+
+    private static final int EVENT_COUNT = 10;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Event> events;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        events = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .description("Description " + i)
+                    .city(City.SPAIN)
+                    .startDateTime(LocalDateTime.now().plusDays(i - 2))
+                    .categories(new HashSet<>(Set.of(Category.MUSIC, Category.FOOD)))
+                    .build()));
+        }
+
+        User user = User.builder()
+                .name("Test")
+                .lastName("User")
+                .email("user@test.com")
+                .password("secret")
+                .savedEvents(new HashSet<>(events))
+                .attendingEvents(new HashSet<>(events))
+                .build();
+        userId = userRepository.save(user).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user@test.com", null));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void savedEventsUseTwoStatementsRegardlessOfSize() {
+        CurrentUserService currentUserService = new CurrentUserService(userRepository, mock(TokenRevocationList.class));
+        Set<EventDto> saved = new SaveEventService(userRepository, eventRepository, currentUserService, new KnownEventIds(eventRepository), mock(EventCounters.class), noPendingWrites(),
+                mock(MembershipWriter.class), mock(MembershipIdCache.class)).getSavedEvents();
+
+        assertThat(saved).hasSize(EVENT_COUNT).allSatisfy(event -> assertThat(event.getCategories()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void attendingEventsUseTwoStatementsRegardlessOfSize() {
+        CurrentUserService currentUserService = new CurrentUserService(userRepository, mock(TokenRevocationList.class));
+        Set<EventDto> attending = new AttendEventService(userRepository, eventRepository, currentUserService, new KnownEventIds(eventRepository), mock(EventCounters.class), noPendingWrites(),
+                mock(MembershipWriter.class), mock(MembershipIdCache.class)).getAttendingEvents();
+
+        assertThat(attending).hasSize(EVENT_COUNT).allSatisfy(event -> assertThat(event.getCategories()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void upcomingIndexLoadsInOneStatement() {
+        UpcomingEventIndex index = new UpcomingEventIndex(eventRepository);
+        index.reload();
+
+        assertThat(index.all()).hasSize(EVENT_COUNT - 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void pastEventDetailLoadsInOneStatement() {
+        UpcomingEventIndex index = new UpcomingEventIndex(eventRepository);
+        index.reload();
+        statistics.clear();
+
+        EventDto past = new GetEventService(eventRepository, index).execute(events.get(0).getId());
+        EventDto upcoming = new GetEventService(eventRepository, index).execute(events.get(EVENT_COUNT - 1).getId());
+
+        assertThat(past.getCategories()).hasSize(2);
+        assertThat(upcoming.getCategories()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void savedEventsPageUsesTwoStatementsAndSeeksByCursor() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(
+                new JwtPrincipal(userId, "user@test.com", List.of("USER")), null));
+        CurrentUserService currentUserService = new CurrentUserService(userRepository, mock(TokenRevocationList.class));
+        MembershipPageService service = new MembershipPageService(userRepository, eventRepository, currentUserService, noPendingWrites());
+
+        PageResponse<EventDto> first = service.execute(MembershipKind.SAVED, 3, null, false);
+
+        assertThat(first.getContent()).extracting(EventDto::getId)
+                .containsExactly(events.get(3).getId(), events.get(4).getId(), events.get(5).getId());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        PageResponse<EventDto> second = service.execute(MembershipKind.SAVED, 3, EventCursor.decode(first.getNextCursor()), false);
+        assertThat(second.getContent()).first().extracting(EventDto::getId).isEqualTo(events.get(6).getId());
+    }
+
+    private static MembershipWriteBuffer noPendingWrites() {
+        MembershipWriteBuffer buffer = mock(MembershipWriteBuffer.class);
+        when(buffer.pendingFor(any(), any())).thenReturn(new MembershipWriteBuffer.PendingView(Map.of()));
+        return buffer;
+    }
+}
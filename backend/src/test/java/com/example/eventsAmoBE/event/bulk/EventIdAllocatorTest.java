@@ -0,0 +1,105 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.CreateEventDto;
+import com.example.eventsAmoBE.event.services.CreateEventService;
+import com.example.eventsAmoBE.validators.EventValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs against H2 with the MySQL dialect, so Hibernate keeps its ids in the {@code event_seq} table just like in
+ * production. Not transactional: the claims and the saves commit on their own, as they do for real.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:event-ids;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.jakarta.persistence.database-major-version=8",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventIdAllocatorTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventIdAllocator allocator;
+    private CreateEventService createEventService;
+
+    @BeforeEach
+    void setUp() {
+        // Seed the way V9 does, past whatever ids are already taken
+        jdbcTemplate.update("UPDATE event_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM event)");
+        allocator = new EventIdAllocator(jdbcTemplate, transactionManager);
+        createEventService = new CreateEventService(eventRepository, mock(EventValidator.class), event -> {
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void claimedBlocksNeverOverlapIdsHandedOutBySaves() {
+        List<Long> ids = new ArrayList<>();
+        ids.addAll(create(3));
+        ids.addAll(claim(120));
+        ids.addAll(create(60));
+        ids.addAll(claim(1));
+        ids.addAll(create(45));
+        ids.addAll(claim(50));
+        ids.addAll(create(2));
+
+        assertThat(ids).hasSize(3 + 120 + 60 + 1 + 45 + 50 + 2).doesNotHaveDuplicates().allMatch(id -> id > 0);
+    }
+
+    private List<Long> claim(int count) {
+        long first = allocator.allocate(count);
+        return LongStream.range(first, first + count).boxed().toList();
+    }
+
+    private List<Long> create(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CreateEventDto input = new CreateEventDto();
+            input.setName("Event " + i);
+            input.setDescription("Description " + i);
+            input.setImageUrl("image.jpg");
+            input.setAddress("Main street");
+            input.setStartDateTime(LocalDateTime.now().plusDays(1));
+            input.setPrice(10.0);
+            input.setCity(City.SPAIN);
+            input.setCategories(Set.of(Category.MUSIC));
+            ids.add(createEventService.execute(input).getId());
+        }
+        return ids;
+    }
+}
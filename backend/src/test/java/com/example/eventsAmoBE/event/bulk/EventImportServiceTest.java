@@ -0,0 +1,151 @@
+package com.example.eventsAmoBE.event.bulk;
+
+import com.example.eventsAmoBE.event.catalog.EventCatalogBatch;
+import com.example.eventsAmoBE.event.catalog.EventCatalogChange;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.exceptions.BatchTooLargeException;
+import com.example.eventsAmoBE.exceptions.ErrorMessages;
+import com.example.eventsAmoBE.validators.EventValidator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventImportServiceTest {
+
+    private static final String HEADER = "name,description,imageUrl,address,startDateTime,price,city,categories";
+    private static final String START = LocalDateTime.now().plusDays(7).withNano(0).toString();
+
+    private final List<Object> published = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper objectMapper;
+    private EventImportService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        EventIdAllocator allocator = mock(EventIdAllocator.class);
+        when(allocator.allocate(anyInt())).thenReturn(101L);
+        // Configured like Spring Boot's mapper, which ignores unknown properties
+        objectMapper = JsonMapper.builder().findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+        service = new EventImportService(jdbcTemplate, allocator, Validation.buildDefaultValidatorFactory().getValidator(),
+                new EventValidator(), objectMapper, published::add, 3);
+    }
+
+    @Test
+    void quotedCsvCellsKeepCommasAndEscapedQuotes() throws Exception {
+        EventImportReport report = service.execute(csv(
+                HEADER,
+                "\"Jazz, blues & soul\",\"The \"\"best\"\" night\",image.jpg,\"Main street, 4\"," + START + ",10.5,SPAIN,MUSIC|FOOD"
+        ), true);
+
+        assertThat(report.errors()).isEmpty();
+        assertThat(report.imported()).isEqualTo(1);
+        EventDto imported = importedEvents().get(0);
+        assertThat(imported.getId()).isEqualTo(101L);
+        assertThat(imported.getName()).isEqualTo("Jazz, blues & soul");
+        assertThat(imported.getDescription()).isEqualTo("The \"best\" night");
+        assertThat(imported.getAddress()).isEqualTo("Main street, 4");
+        assertThat(imported.getCategories()).hasSize(2);
+    }
+
+    @Test
+    void rejectedRowsAreReportedByLine() throws Exception {
+        EventImportReport report = service.execute(csv(
+                HEADER,
+                "Jazz night,live music,image.jpg,Main street," + START + ",10,SPAIN,MUSIC",
+                "",
+                "No description,,image.jpg,Main street," + START + ",10,SPAIN,MUSIC",
+                "Bad city,live music,image.jpg,Main street," + START + ",10,ATLANTIS,MUSIC"
+        ), true);
+
+        assertThat(report.received()).isEqualTo(3);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).extracting(EventImportError::line).containsExactly(4L, 5L);
+        assertThat(report.errors().get(0).messages()).containsExactly("Description is required");
+        assertThat(report.errors().get(1).messages().get(0)).startsWith("Unreadable row");
+    }
+
+    @Test
+    void moreRowsThanTheLimitRejectTheWholeBatch() {
+        String row = "Jazz night,live music,image.jpg,Main street," + START + ",10,SPAIN,MUSIC";
+
+        assertThatThrownBy(() -> service.execute(csv(HEADER, row, row, row, row), true))
+                .isInstanceOf(BatchTooLargeException.class)
+                .hasMessage(ErrorMessages.BATCH_TOO_LARGE.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void exportedMultiLineDescriptionImportsUnchanged() throws Exception {
+        String description = "Doors at 8,\nfirst set at \"9\"\r\n\nlast set at 11";
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:event-export;DB_CLOSE_DELAY=-1");
+        JdbcTemplate database = new JdbcTemplate(dataSource);
+        database.execute("""
+                CREATE TABLE event (id BIGINT PRIMARY KEY, name VARCHAR(255), description VARCHAR(2000),
+                    image_url VARCHAR(255), city VARCHAR(32), address VARCHAR(255), start_date_time TIMESTAMP,
+                    price DOUBLE, priority INT, main_event BOOLEAN, promoted BOOLEAN, attendee_count INT, saved_count INT)""");
+        database.execute("CREATE TABLE event_categories (event_id BIGINT, category VARCHAR(32))");
+        database.update("INSERT INTO event VALUES (1, 'Jazz night', ?, 'image.jpg', 'SPAIN', 'Main street', ?, 10, 0, false, false, 4, 2)",
+                description, LocalDateTime.parse(START));
+        database.update("INSERT INTO event_categories VALUES (1, 'MUSIC'), (1, 'FOOD')");
+
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        try {
+            new EventExportService(dataSource, objectMapper, 100, 30).execute(exported, true);
+        } finally {
+            database.execute("DROP ALL OBJECTS");
+        }
+        EventImportReport report = service.execute(new ByteArrayInputStream(exported.toByteArray()), true);
+
+        assertThat(report.errors()).isEmpty();
+        EventDto imported = importedEvents().get(0);
+        assertThat(imported.getName()).isEqualTo("Jazz night");
+        assertThat(imported.getDescription()).isEqualTo(description);
+        assertThat(imported.getCategories()).hasSize(2);
+    }
+
+    @Test
+    void rowsAfterAMultiLineRecordKeepTheirLineNumbers() throws Exception {
+        EventImportReport report = service.execute(csv(
+                HEADER,
+                "Jazz night,\"live\nmusic\",image.jpg,Main street," + START + ",10,SPAIN,MUSIC",
+                "No image,live music,,Main street," + START + ",10,SPAIN,MUSIC"
+        ), true);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).extracting(EventImportError::line).containsExactly(4L);
+    }
+
+    private List<EventDto> importedEvents() {
+        return published.stream()
+                .map(EventCatalogBatch.class::cast)
+                .flatMap(batch -> batch.changes().stream())
+                .map(EventCatalogChange::event)
+                .toList();
+    }
+
+    private static InputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
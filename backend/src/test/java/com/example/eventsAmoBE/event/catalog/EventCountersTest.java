@@ -0,0 +1,95 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class EventCountersTest {
+
+    private UpcomingEventIndex index;
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private EventCounters counters;
+    private EventRow original;
+
+    @BeforeEach
+    void setUp() {
+        original = new EventRow(1L, "Jazz night", "live music", "image.jpg", City.SPAIN, "Main street",
+                LocalDateTime.now().plusDays(3), 10.0, 0, false, false, 3, 0, Category.MUSIC);
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findUpcomingRows(any())).thenReturn(List.of(original));
+        index = new UpcomingEventIndex(eventRepository);
+        index.reload();
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        counters = new EventCounters(jdbcTemplate, index, event -> {
+            if (event instanceof EventCountsChange change) {
+                index.onCountsChange(change);
+            }
+        }, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void flushedCountsKeepAnEditCommittedWhileReadingThem() throws Exception {
+        ResultSet counts = mock(ResultSet.class);
+        when(counts.getLong("id")).thenReturn(1L);
+        when(counts.getInt("attendee_count")).thenReturn(4);
+        when(counts.getInt("saved_count")).thenReturn(0);
+
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(counts);
+
+            // An admin rename commits after the counts were read, before they reach the index
+            EventDto renamed = new EventDto(new EventRow(1L, "Jazz & blues night", "live music", "image.jpg",
+                    City.SPAIN, "Main street", original.startDateTime(), 10.0, 0, false, false, 3, 0, null),
+                    Set.of(Category.MUSIC));
+            index.onCatalogChange(EventCatalogChange.upserted(renamed, index.find(1L).orElseThrow()));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        counters.attendeeAdded(1L);
+        counters.flush();
+
+        EventDto indexed = index.find(1L).orElseThrow();
+        assertThat(indexed.getName()).isEqualTo("Jazz & blues night");
+        assertThat(indexed.getAttendeeCount()).isEqualTo(4);
+    }
+
+    @Test
+    void failedFlushRollsBackAndRetriesTheSameDeltas() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(new int[]{1});
+
+        counters.saveAdded(1L);
+        counters.flush();
+        verify(transactionManager).rollback(any());
+
+        counters.flush();
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.captor();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertThat(batches.getValue()).singleElement().isEqualTo(new Object[]{0, 1, 1L});
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.catalog.EventPageCache.ListKind;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.utils.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventPageCacheTest {
+
+    // Aligned to a minute, so it opens a 60 second bucket
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private UpcomingEventIndex upcomingEventIndex;
+    private EventPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        upcomingEventIndex = mock(UpcomingEventIndex.class);
+        when(upcomingEventIndex.nextStart(any())).thenReturn(Optional.empty());
+        cache = new EventPageCache(upcomingEventIndex, 60, 100, nanos::get);
+    }
+
+    @Test
+    void pagesAreReusedWithinTheirBucketOnly() {
+        get(ListKind.UPCOMING, null, NOW);
+        get(ListKind.UPCOMING, null, NOW.plusSeconds(30));
+        assertThat(loads).hasValue(1);
+
+        get(ListKind.UPCOMING, null, NOW.plusSeconds(60));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void entriesExpireAtTheEndOfTheirBucket() {
+        get(ListKind.UPCOMING, null, NOW.plusSeconds(50));
+
+        advance(9);
+        get(ListKind.UPCOMING, null, NOW.plusSeconds(50));
+        assertThat(loads).hasValue(1);
+
+        advance(2);
+        get(ListKind.UPCOMING, null, NOW.plusSeconds(50));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void entriesExpireWhenTheNextIndexedEventStarts() {
+        when(upcomingEventIndex.nextStart(NOW)).thenReturn(Optional.of(NOW.plusSeconds(10)));
+        get(ListKind.UPCOMING, null, NOW);
+
+        advance(9);
+        get(ListKind.UPCOMING, null, NOW);
+        assertThat(loads).hasValue(1);
+
+        advance(2);
+        get(ListKind.UPCOMING, null, NOW);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void changesEvictOnlyListsTheEventWasOrIsPartOf() {
+        get(ListKind.FILTERED, City.SPAIN, NOW);
+        get(ListKind.FILTERED, City.FRANCE, NOW);
+        get(ListKind.MAIN, null, NOW);
+        assertThat(loads).hasValue(3);
+
+        EventDto inFrance = event(City.FRANCE);
+        cache.onCatalogChange(EventCatalogChange.upserted(inFrance, null));
+        get(ListKind.FILTERED, City.SPAIN, NOW);
+        get(ListKind.MAIN, null, NOW);
+        assertThat(loads).hasValue(3);
+        get(ListKind.FILTERED, City.FRANCE, NOW);
+        assertThat(loads).hasValue(4);
+
+        // Moving an event evicts the list it left as well as the one it joined
+        cache.onCatalogChange(EventCatalogChange.upserted(event(City.GERMANY), inFrance));
+        get(ListKind.FILTERED, City.FRANCE, NOW);
+        assertThat(loads).hasValue(5);
+        get(ListKind.FILTERED, City.SPAIN, NOW);
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    void pageLoadedAcrossAnEvictionIsNotCached() {
+        cache.get(ListKind.UPCOMING, null, null, PageRequest.of(0, 10), null, false, NOW, () -> {
+            cache.onCatalogChange(EventCatalogChange.upserted(event(City.SPAIN), null));
+            return page();
+        });
+
+        get(ListKind.UPCOMING, null, NOW);
+        assertThat(loads).hasValue(1);
+    }
+
+    private void get(ListKind kind, City city, LocalDateTime now) {
+        cache.get(kind, city, null, PageRequest.of(0, 10), null, false, now, () -> {
+            loads.incrementAndGet();
+            return page();
+        });
+    }
+
+    private void advance(long seconds) {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private static PageResponse<EventDto> page() {
+        return new PageResponse<>(List.of(), 0, 10, null, null, 0, true, false, null);
+    }
+
+    private static EventDto event(City city) {
+        EventRow row = new EventRow(1L, "Jazz night", "live music", "image.jpg", city, "Main street",
+                LocalDateTime.now().plusDays(3), 10.0, 0, false, false, 0, 0, null);
+        return new EventDto(row, Set.of(Category.MUSIC));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.exceptions.InvalidCursorException;
+import com.example.eventsAmoBE.utils.EventCursor;
+import com.example.eventsAmoBE.utils.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final List<EventDto> events = new ArrayList<>();
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Repeating "jazz" in the name ranks lower ids higher; event 3 starts first of all
+        for (long id = 1; id <= 7; id++) {
+            String name = "jazz ".repeat((int) (8 - id)) + "night " + id;
+            events.add(event(id, name, id == 3 ? NOW.plusHours(1) : NOW.plusDays(id)));
+        }
+        UpcomingEventIndex upcoming = mock(UpcomingEventIndex.class);
+        when(upcoming.all()).thenReturn(events);
+        index = new EventSearchIndex(upcoming, 10_000);
+        index.reload();
+    }
+
+    @Test
+    void cursorPagesWalkAllHitsOnceInRelevanceOrder() {
+        List<Long> seen = new ArrayList<>();
+        EventCursor after = null;
+        do {
+            PageResponse<EventDto> page = index.search("jazz", PageRequest.of(0, 3), after, false, NOW);
+            page.getContent().forEach(event -> seen.add(event.getId()));
+            after = EventCursor.decode(page.getNextCursor());
+        } while (after != null);
+
+        assertThat(seen).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void cursorOfStartedEventResumesAfterItsPosition() {
+        PageResponse<EventDto> first = index.search("jazz", PageRequest.of(0, 3), null, false, NOW);
+
+        // Event 3, the one the cursor names, has started by the next request
+        PageResponse<EventDto> second = index.search("jazz", PageRequest.of(0, 3),
+                EventCursor.decode(first.getNextCursor()), false, NOW.plusHours(2));
+
+        assertThat(second.getContent()).extracting(EventDto::getId).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    void catalogChangesReplaceACachedRanking() {
+        PageResponse<EventDto> before = index.search("jazz", PageRequest.of(0, 3), null, true, NOW);
+        assertThat(before.getTotalElements()).isEqualTo(7);
+
+        EventDto louder = event(8, "jazz ".repeat(10) + "night 8", LocalDateTime.now().plusDays(30));
+        index.onCatalogChange(EventCatalogChange.upserted(louder, null));
+        index.onCatalogChange(EventCatalogChange.deleted(2L, events.get(1)));
+
+        PageResponse<EventDto> after = index.search("jazz", PageRequest.of(0, 3), null, true, NOW);
+        assertThat(after.getContent()).extracting(EventDto::getId).containsExactly(8L, 1L, 3L);
+        assertThat(after.getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    void startedEventsLeaveTheCachedRankingAndTheTotals() {
+        index.search("jazz", PageRequest.of(0, 3), null, true, NOW);
+
+        PageResponse<EventDto> later = index.search("jazz", PageRequest.of(0, 3), null, true, NOW.plusHours(2));
+
+        assertThat(later.getContent()).extracting(EventDto::getId).containsExactly(1L, 2L, 4L);
+        assertThat(later.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    void cursorWithoutScoreIsRejected() {
+        EventCursor byStart = EventCursor.byStart(events.get(0));
+
+        assertThatThrownBy(() -> index.search("jazz", PageRequest.of(0, 3), byStart, false, NOW))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static EventDto event(long id, String name, LocalDateTime start) {
+        EventRow row = new EventRow(id, name, "live music", "image.jpg", City.SPAIN, "Main street",
+                start, 10.0, 0, false, false, 0, 0, null);
+        return new EventDto(row, Set.of(Category.MUSIC));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.event.model.SuggestionDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class EventSuggesterTest {
+
+    private final List<EventDto> events = new ArrayList<>();
+    private UpcomingEventIndex upcomingEventIndex;
+    private EventSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        events.add(event(1, "Summer Fest", LocalDateTime.now().plusDays(1)));
+        upcomingEventIndex = mock(UpcomingEventIndex.class);
+        when(upcomingEventIndex.all()).thenAnswer(invocation -> List.copyOf(events));
+        suggester = new EventSuggester(upcomingEventIndex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        suggester.shutdown();
+    }
+
+    @Test
+    void catalogChangeRebuildsInTheBackground() throws Exception {
+        assertThat(names("fest")).containsExactly("Summer Fest");
+
+        EventDto added = event(2, "Winter Fest", LocalDateTime.now().plusDays(2));
+        events.add(added);
+        suggester.onCatalogChange(EventCatalogChange.upserted(added, null));
+
+        for (int attempt = 0; attempt < 100 && names("fest").size() < 2; attempt++) {
+            Thread.sleep(20);
+        }
+        assertThat(names("fest")).containsExactly("Summer Fest", "Winter Fest");
+    }
+
+    @Test
+    void counterUpdatesDoNotRebuild() {
+        names("fest");
+        EventDto previous = events.get(0);
+        suggester.onCatalogChange(EventCatalogChange.upserted(previous.withCounts(5, 3), previous));
+        names("fest");
+
+        verify(upcomingEventIndex, times(1)).all();
+    }
+
+    @Test
+    void startedEventsAreSkippedBeforeTheNextRebuild() {
+        LocalDateTime soon = LocalDateTime.now().plusHours(1);
+        events.add(event(2, "Soon Fest", soon));
+        assertThat(names("fest", soon.minusMinutes(1))).contains("Soon Fest");
+
+        assertThat(names("fest", soon)).containsExactly("Summer Fest");
+    }
+
+    private List<String> names(String prefix) {
+        return names(prefix, LocalDateTime.now());
+    }
+
+    private List<String> names(String prefix, LocalDateTime now) {
+        return suggester.suggest(prefix, EventSuggester.MAX_SUGGESTIONS, now).stream()
+                .filter(suggestion -> suggestion.getType() == SuggestionDto.Type.EVENT)
+                .map(SuggestionDto::getText)
+                .toList();
+    }
+
+    private static EventDto event(long id, String name, LocalDateTime start) {
+        EventRow row = new EventRow(id, name, "description", "image.jpg", City.SPAIN, "Harbour " + id,
+                start, 10.0, 0, false, false, 0, 0, null);
+        return new EventDto(row, Set.of(Category.MUSIC));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.eventsAmoBE.event.catalog;
+
+import com.example.eventsAmoBE.event.EventRepository;
+import com.example.eventsAmoBE.event.model.Category;
+import com.example.eventsAmoBE.event.model.City;
+import com.example.eventsAmoBE.event.model.EventDto;
+import com.example.eventsAmoBE.event.model.EventRow;
+import com.example.eventsAmoBE.utils.PageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UpcomingEventIndexTest {
+
+    private static final PageRequest EVERYTHING = PageRequest.of(0, 1000);
+
+    private final Random random = new Random(42);
+    private final LocalDateTime base = LocalDateTime.now().withNano(0);
+    private final Map<Long, EventDto> expected = new HashMap<>();
+    private long nextId = 1;
+
+    @Test
+    void incrementalChangesServeWhatAFullRebuildWould() {
+        // A few events have already started and wait for eviction
+        for (int i = 0; i < 40; i++) {
+            EventDto event = event(nextId++, i < 5 ? base.minusHours(i + 1) : randomStart());
+            expected.put(event.getId(), event);
+        }
+        UpcomingEventIndex index = indexOf(expected);
+
+        for (int step = 0; step < 400; step++) {
+            List<EventDto> present = new ArrayList<>(expected.values());
+            EventDto target = present.isEmpty() ? null : present.get(random.nextInt(present.size()));
+            int operation = random.nextInt(10);
+
+            if (operation < 3 || target == null) {
+                EventDto created = event(nextId++, randomStart());
+                expected.put(created.getId(), created);
+                index.onCatalogChange(EventCatalogChange.upserted(created, null));
+            } else if (operation < 5) {
+                // Edits that keep every position, and edits that move the event
+                EventDto edited = random.nextBoolean()
+                        ? copy(target, target.getName() + "!", target.getStartDateTime(), target.getPriority(), target.getCategories())
+                        : copy(target, target.getName(), randomStart(), random.nextInt(10), randomCategories());
+                expected.put(edited.getId(), edited);
+                index.onCatalogChange(EventCatalogChange.upserted(edited, target));
+            } else if (operation < 6) {
+                expected.remove(target.getId());
+                index.onCatalogChange(EventCatalogChange.deleted(target.getId(), target));
+            } else if (operation < 8) {
+                EventDto counted = target.withCounts(random.nextInt(100), random.nextInt(100));
+                expected.put(counted.getId(), counted);
+                index.onCountsChange(new EventCountsChange(Map.of(counted.getId(), new EventCountsChange.Counts(
+                        counted.getAttendeeCount(), counted.getSavedCount()))));
+            } else if (operation < 9) {
+                List<EventCatalogChange> batch = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    EventDto created = event(nextId++, randomStart());
+                    expected.put(created.getId(), created);
+                    batch.add(EventCatalogChange.upserted(created, null));
+                }
+                index.onCatalogBatch(new EventCatalogBatch(batch));
+            } else {
+                index.evictExpired();
+                expected.values().removeIf(event -> !event.getStartDateTime().isAfter(LocalDateTime.now()));
+            }
+
+            assertSameAnswers(index, indexOf(expected));
+        }
+    }
+
+    @Test
+    void countChangesKeepListingPositions() {
+        EventDto first = event(1, base.plusDays(1));
+        EventDto second = event(2, base.plusDays(2));
+        expected.put(1L, first);
+        expected.put(2L, second);
+        UpcomingEventIndex index = indexOf(expected);
+        long version = index.revision(base).version();
+
+        index.onCountsChange(new EventCountsChange(Map.of(2L, new EventCountsChange.Counts(9, 4))));
+
+        assertThat(index.all()).extracting(EventDto::getId).containsExactly(1L, 2L);
+        assertThat(index.find(2L)).get().extracting(EventDto::getAttendeeCount, EventDto::getSavedCount).containsExactly(9, 4);
+        assertThat(index.revision(base).version()).isGreaterThan(version);
+    }
+
+    private static void assertSameAnswers(UpcomingEventIndex actual, UpcomingEventIndex rebuilt) {
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(actual.all()).isEqualTo(rebuilt.all());
+        for (EventDto event : rebuilt.all()) {
+            assertThat(actual.find(event.getId())).contains(event);
+        }
+
+        List<City> cities = new ArrayList<>(Arrays.asList(City.values()));
+        cities.add(null);
+        List<Category> categories = new ArrayList<>(Arrays.asList(Category.values()));
+        categories.add(null);
+        for (City city : cities) {
+            for (Category category : categories) {
+                assertSamePage(actual.filtered(city, category, EVERYTHING, null, true, now),
+                        rebuilt.filtered(city, category, EVERYTHING, null, true, now));
+            }
+        }
+        assertSamePage(actual.main(EVERYTHING, null, true, now), rebuilt.main(EVERYTHING, null, true, now));
+        assertSamePage(actual.promoted(EVERYTHING, null, true, now), rebuilt.promoted(EVERYTHING, null, true, now));
+    }
+
+    private static void assertSamePage(PageResponse<EventDto> actual, PageResponse<EventDto> rebuilt) {
+        assertThat(actual.getContent()).isEqualTo(rebuilt.getContent());
+        assertThat(actual.getTotalElements()).isEqualTo(rebuilt.getTotalElements());
+    }
+
+    private static UpcomingEventIndex indexOf(Map<Long, EventDto> events) {
+        List<EventRow> rows = new ArrayList<>();
+        for (EventDto event : events.values()) {
+            for (Category category : event.getCategories()) {
+                rows.add(new EventRow(event.getId(), event.getName(), event.getDescription(), event.getImageUrl(),
+                        event.getCity(), event.getAddress(), event.getStartDateTime(), event.getPrice(), event.getPriority(),
+                        event.isMainEvent(), event.isPromoted(), event.getAttendeeCount(), event.getSavedCount(), category));
+            }
+        }
+        EventRepository repository = mock(EventRepository.class);
+        when(repository.findUpcomingRows(any())).thenReturn(rows);
+        UpcomingEventIndex index = new UpcomingEventIndex(repository);
+        index.reload();
+        return index;
+    }
+
+    private EventDto event(long id, LocalDateTime start) {
+        City city = City.values()[random.nextInt(City.values().length)];
+        EventRow row = new EventRow(id, "Event " + id, "description", "image.jpg", city, "Main street", start, 10.0,
+                random.nextInt(10), random.nextInt(4) == 0, random.nextInt(4) == 0, 0, 0, null);
+        return new EventDto(row, randomCategories());
+    }
+
+    private static EventDto copy(EventDto event, String name, LocalDateTime start, int priority, Set<Category> categories) {
+        EventRow row = new EventRow(event.getId(), name, event.getDescription(), event.getImageUrl(), event.getCity(),
+                event.getAddress(), start, event.getPrice(), priority, event.isMainEvent(), event.isPromoted(),
+                event.getAttendeeCount(), event.getSavedCount(), null);
+        return new EventDto(row, categories);
+    }
+
+    // Starts collide now and then, so ties are broken by id
+    private LocalDateTime randomStart() {
+        return base.plusHours(1 + random.nextInt(200));
+    }
+
+    private Set<Category> randomCategories() {
+        Set<Category> categories = EnumSet.noneOf(Category.class);
+        for (Category category : Category.values()) {
+            if (random.nextInt(3) == 0) {
+                categories.add(category);
+            }
+        }
+        if (categories.isEmpty()) {
+            categories.add(Category.MUSIC);
+        }
+        return categories;
+    }
+}
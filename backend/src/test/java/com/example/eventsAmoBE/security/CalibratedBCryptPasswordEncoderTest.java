@@ -0,0 +1,32 @@
+package com.example.eventsAmoBE.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    private static final String SALT_AND_HASH = "abcdefghijklmnopqrstuuVHQTRpXl3LiDdMfJAeH0pd8nXaqcbG";
+
+    @Test
+    void instancesCalibratedOneStepApartLeaveEachOthersHashesAlone() {
+        CalibratedBCryptPasswordEncoder slower = new CalibratedBCryptPasswordEncoder(12, 1);
+        CalibratedBCryptPasswordEncoder faster = new CalibratedBCryptPasswordEncoder(11, 1);
+
+        assertThat(slower.upgradeEncoding(hashAt(11))).isFalse();
+        assertThat(faster.upgradeEncoding(hashAt(12))).isFalse();
+    }
+
+    @Test
+    void hashesOutsideTheToleranceAreRehashed() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(12, 1);
+
+        assertThat(encoder.upgradeEncoding(hashAt(10))).isTrue();
+        assertThat(encoder.upgradeEncoding(hashAt(14))).isTrue();
+        assertThat(new CalibratedBCryptPasswordEncoder(12, 0).upgradeEncoding(hashAt(11))).isTrue();
+    }
+
+    private static String hashAt(int cost) {
+        return "$2a$" + cost + "$" + SALT_AND_HASH;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.eventsAmoBE.security.revocation;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private static final long TOKEN_LIFETIME_MILLIS = 3_600_000;
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private UserTokenCutoffRepository userTokenCutoffRepository;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        userTokenCutoffRepository = mock(UserTokenCutoffRepository.class);
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        when(userTokenCutoffRepository.findAll()).thenReturn(List.of());
+        // Sized far below what the tests load, so the refreshed filter has to grow
+        revocationList = new TokenRevocationList(revokedTokenRepository, userTokenCutoffRepository, 4, TOKEN_LIFETIME_MILLIS);
+    }
+
+    @Test
+    void cutoffRejectsTokensIssuedBeforeItsSecondOnly() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationList.revokeAllFor(5L);
+        Instant after = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        assertThat(revocationList.isRevoked(token("a", before.minusSeconds(1)), 5L)).isTrue();
+        assertThat(revocationList.isRevoked(token("b", null), 5L)).isTrue();
+        // Issued in the cutoff's own second, like the token handed out with a password change
+        assertThat(revocationList.isRevoked(token("c", after), 5L)).isFalse();
+        assertThat(revocationList.isRevoked(token("d", before.minusSeconds(1)), 6L)).isFalse();
+    }
+
+    @Test
+    void refreshKeepsTheLaterOfTwoCutoffs() {
+        Instant local = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationList.revokeAllFor(5L);
+        when(userTokenCutoffRepository.findAll()).thenReturn(List.of(
+                new UserTokenCutoff(5L, local.minusSeconds(60)),
+                new UserTokenCutoff(6L, local.minusSeconds(60))));
+
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked(token("a", local.minusSeconds(30)), 5L)).isTrue();
+        assertThat(revocationList.isRevoked(token("b", local.minusSeconds(90)), 6L)).isTrue();
+        assertThat(revocationList.isRevoked(token("c", local.minusSeconds(30)), 6L)).isFalse();
+    }
+
+    @Test
+    void refreshedFilterHoldsEveryRevocationFromOtherInstances() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        List<RevokedToken> elsewhere = IntStream.range(0, 200)
+                .mapToObj(i -> new RevokedToken("remote-" + i, expiresAt))
+                .toList();
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(elsewhere);
+
+        revocationList.refresh();
+
+        assertThat(elsewhere).allMatch(token -> revocationList.isRevoked(token(token.getJti(), Instant.now()), null));
+        assertThat(revocationList.isRevoked(token("never-revoked", Instant.now()), null)).isFalse();
+    }
+
+    @Test
+    void refreshKeepsLiveLocalRevocationsAndDropsExpiredOnes() {
+        Claims live = token("live", Instant.now(), Instant.now().plusSeconds(600));
+        Claims expired = token("expired", Instant.now().minusSeconds(600), Instant.now().minusSeconds(1));
+        revocationList.revoke(live);
+        revocationList.revoke(expired);
+        assertThat(revocationList.isRevoked(expired, null)).isTrue();
+
+        // The repository read doesn't see the local writes yet
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked(live, null)).isTrue();
+        assertThat(revocationList.isRevoked(expired, null)).isFalse();
+    }
+
+    private static Claims token(String jti, Instant issuedAt) {
+        return token(jti, issuedAt, Instant.now().plusSeconds(600));
+    }
+
+    private static Claims token(String jti, Instant issuedAt, Instant expiresAt) {
+        Claims claims = Jwts.claims();
+        claims.setId(jti);
+        claims.setIssuedAt(issuedAt != null ? Date.from(issuedAt) : null);
+        claims.setExpiration(Date.from(expiresAt));
+        return claims;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.eventsAmoBE.user.membership;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MembershipWriteBufferTest {
+
+    private record Write(MembershipKind kind, Long userId, Long eventId, boolean present) {
+    }
+
+    @TempDir
+    private Path directory;
+
+    private final List<Write> written = new CopyOnWriteArrayList<>();
+    private MembershipWriter writer;
+    private MembershipWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        writer = mock(MembershipWriter.class);
+        recordWrites();
+        buffer = buffer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    void repeatedTogglesOfAPairCoalesceIntoTheLastState() {
+        buffer.record(MembershipKind.SAVED, 5L, 1L, true);
+        buffer.record(MembershipKind.SAVED, 5L, 1L, false);
+        buffer.record(MembershipKind.SAVED, 5L, 1L, true);
+        buffer.record(MembershipKind.ATTENDING, 5L, 1L, false);
+
+        assertThat(buffer.flush()).isTrue();
+
+        assertThat(written).containsExactlyInAnyOrder(
+                new Write(MembershipKind.SAVED, 5L, 1L, true),
+                new Write(MembershipKind.ATTENDING, 5L, 1L, false));
+        assertThat(buffer.pendingFor(MembershipKind.SAVED, () -> 5L).states()).isEmpty();
+    }
+
+    @Test
+    void statesBeingFlushedStayVisibleAndNewerTogglesWin() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(writer).apply(eq(MembershipKind.SAVED), anyList(), anyBoolean());
+
+        buffer.record(MembershipKind.SAVED, 5L, 1L, true);
+        buffer.record(MembershipKind.SAVED, 5L, 2L, true);
+        CompletableFuture<Boolean> flush = CompletableFuture.supplyAsync(buffer::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Drained from pending but not committed yet: only the in-flight overlay still shows them
+        assertThat(buffer.pendingFor(MembershipKind.SAVED, () -> 5L).states()).isEqualTo(Map.of(1L, true, 2L, true));
+        buffer.record(MembershipKind.SAVED, 5L, 2L, false);
+        assertThat(buffer.pendingFor(MembershipKind.SAVED, () -> 5L).states()).isEqualTo(Map.of(1L, true, 2L, false));
+
+        release.countDown();
+        assertThat(flush.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.pendingFor(MembershipKind.SAVED, () -> 5L).states()).isEqualTo(Map.of(2L, false));
+    }
+
+    @Test
+    void failedFlushRequeuesWithoutOverwritingNewerToggles() {
+        buffer.record(MembershipKind.SAVED, 5L, 1L, true);
+        buffer.record(MembershipKind.SAVED, 5L, 2L, true);
+        doAnswer(invocation -> {
+            // Toggled again while the failing flush is writing
+            buffer.record(MembershipKind.SAVED, 5L, 2L, false);
+            throw new QueryTimeoutException("database unreachable");
+        }).when(writer).apply(eq(MembershipKind.SAVED), anyList(), eq(true));
+
+        assertThat(buffer.flush()).isFalse();
+        assertThat(buffer.pendingFor(MembershipKind.SAVED, () -> 5L).states()).isEqualTo(Map.of(1L, true, 2L, false));
+
+        recordWrites();
+        assertThat(buffer.flush()).isTrue();
+        assertThat(written).containsExactlyInAnyOrder(
+                new Write(MembershipKind.SAVED, 5L, 1L, true),
+                new Write(MembershipKind.SAVED, 5L, 2L, false));
+    }
+
+    @Test
+    void statesThatCannotBeFlushedOnShutdownAreJournaledAndReplayed() throws Exception {
+        doThrow(new QueryTimeoutException("database unreachable")).when(writer).apply(any(), anyList(), anyBoolean());
+        buffer.record(MembershipKind.SAVED, 5L, 1L, true);
+        buffer.record(MembershipKind.ATTENDING, 6L, 2L, false);
+
+        buffer.shutdown();
+
+        Path journal = directory.resolve("pending.journal");
+        assertThat(Files.readAllLines(journal)).containsExactlyInAnyOrder("SAVED,5,1,true", "ATTENDING,6,2,false");
+
+        recordWrites();
+        buffer = buffer();
+        // A toggle recorded before the replay is newer than the journaled state
+        buffer.record(MembershipKind.SAVED, 5L, 1L, false);
+
+        buffer.replayJournal();
+
+        assertThat(written).containsExactlyInAnyOrder(
+                new Write(MembershipKind.SAVED, 5L, 1L, false),
+                new Write(MembershipKind.ATTENDING, 6L, 2L, false));
+        assertThat(journal).doesNotExist();
+    }
+
+    private void recordWrites() {
+        reset(writer);
+        doAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> written.add(new Write(invocation.getArgument(0), (Long) row[0], (Long) row[1],
+                    invocation.getArgument(2))));
+            return null;
+        }).when(writer).apply(any(), anyList(), anyBoolean());
+    }
+
+    // Periodic and threshold flushes are pushed out of reach, so each test decides when to flush
+    private MembershipWriteBuffer buffer() {
+        return new MembershipWriteBuffer(writer, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                true, TimeUnit.HOURS.toMillis(1), 1_000, directory.resolve("pending.journal").toString());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.eventsAmoBE.user.membership;
+
+import com.example.eventsAmoBE.event.catalog.EventCounters;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MembershipWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private EventCounters eventCounters;
+    private MembershipWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:membership-writer;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user_saved_events (user_id BIGINT, event_id BIGINT, PRIMARY KEY (user_id, event_id))");
+        eventCounters = mock(EventCounters.class);
+        writer = new MembershipWriter(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), eventCounters);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void rowsAConcurrentToggleChangedFirstAreNotCounted() {
+        // A single toggle of event 2 commits just before the batch
+        jdbcTemplate.update("INSERT INTO user_saved_events VALUES (5, 2)");
+
+        writer.write(MembershipKind.SAVED, 5L, List.of(1L, 2L, 3L), true);
+
+        verify(eventCounters).saveAdded(1L);
+        verify(eventCounters).saveAdded(3L);
+        verifyNoMoreInteractions(eventCounters);
+        assertThat(jdbcTemplate.queryForList("SELECT event_id FROM user_saved_events ORDER BY event_id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void onlyRowsThatExistedAreCountedAsRemoved() {
+        jdbcTemplate.update("INSERT INTO user_saved_events VALUES (5, 1), (5, 3)");
+
+        writer.write(MembershipKind.SAVED, 5L, List.of(1L, 2L, 3L), false);
+
+        verify(eventCounters).saveRemoved(1L);
+        verify(eventCounters).saveRemoved(3L);
+        verifyNoMoreInteractions(eventCounters);
+    }
+}
@@ -11,6 +11,11 @@ class Event {
   final int priority;
   final bool mainEvent;
   final bool promoted;
+  final int attendeeCount;
+  final int savedCount;
+  // Only sent to signed-in users; null otherwise
+  final bool? saved;
+  final bool? attending;
   
   Event({
     required this.id,
@@ -25,6 +30,10 @@ class Event {
     this.priority = 0,
     this.mainEvent = false,
     this.promoted = false,
+    this.attendeeCount = 0,
+    this.savedCount = 0,
+    this.saved,
+    this.attending,
   });
 
   Event copyWith({
@@ -40,6 +49,10 @@ class Event {
     int? priority,
     bool? mainEvent,
     bool? promoted,
+    int? attendeeCount,
+    int? savedCount,
+    bool? saved,
+    bool? attending,
   }) {
     return Event(
       id: id ?? this.id,
@@ -54,6 +67,10 @@ class Event {
       priority: priority ?? this.priority,
       mainEvent: mainEvent ?? this.mainEvent,
       promoted: promoted ?? this.promoted,
+      attendeeCount: attendeeCount ?? this.attendeeCount,
+      savedCount: savedCount ?? this.savedCount,
+      saved: saved ?? this.saved,
+      attending: attending ?? this.attending,
     );
   }
 
@@ -102,6 +119,10 @@ class Event {
       priority: json['priority'] ?? 0,
       mainEvent: json['mainEvent'] ?? false,
       promoted: json['promoted'] ?? false,
+      attendeeCount: json['attendeeCount'] ?? 0,
+      savedCount: json['savedCount'] ?? 0,
+      saved: json['saved'],
+      attending: json['attending'],
     );
   }
 
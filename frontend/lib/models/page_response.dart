@@ -6,6 +6,7 @@ class PageResponse<T> {
   final int totalPages;
   final int currentPageNumberOfElements;
   final bool last;
+  final String? nextCursor;
 
   PageResponse({
     required this.content,
@@ -15,6 +16,7 @@ class PageResponse<T> {
     required this.totalPages,
     required this.currentPageNumberOfElements,
     required this.last,
+    this.nextCursor,
   });
 
   factory PageResponse.fromJson(
@@ -25,10 +27,12 @@ class PageResponse<T> {
           .toList(),
       pageNumber: json['pageNumber'],
       pageSize: json['pageSize'],
-      totalElements: json['totalElements'],
-      totalPages: json['totalPages'],
+      // Absent from keyset-only responses, which are paged by nextCursor
+      totalElements: json['totalElements'] ?? 0,
+      totalPages: json['totalPages'] ?? 0,
       currentPageNumberOfElements: json['currentPageNumberOfElements'],
       last: json['last'],
+      nextCursor: json['nextCursor'],
     );
   }
 }
\ No newline at end of file
@@ -1,3 +1,5 @@
+import 'dart:async';
+
 import 'package:events_amo/models/event.dart';
 import 'package:events_amo/providers/event_provider.dart';
 import 'package:events_amo/widgets/comunity_event_card.dart';
@@ -16,19 +18,47 @@ class SearchPageState extends State<SearchPage> {
   bool _hasSearched = false;
   String _currentSearchQuery = '';
   bool _isSearching = false;
+  Timer? _suggestDebounce;
+  List<String> _suggestions = [];
 
   @override
   void dispose() {
+    _suggestDebounce?.cancel();
     _searchController.dispose();
     super.dispose();
   }
 
+  void _onQueryChanged(String query) {
+    _suggestDebounce?.cancel();
+    _suggestDebounce = Timer(const Duration(milliseconds: 150), () async {
+      try {
+        final suggestions = await Provider.of<EventProvider>(context, listen: false).suggestEvents(query);
+        if (!mounted || _searchController.text != query) return;
+        setState(() {
+          _suggestions = suggestions;
+        });
+      } catch (_) {
+        // Suggestions are best-effort; submitting still runs a full search
+      }
+    });
+  }
+
+  void _selectSuggestion(String suggestion) {
+    _searchController.text = suggestion;
+    setState(() {
+      _suggestions = [];
+    });
+    _performSearch(suggestion);
+  }
+
   Future<void> _performSearch(String query) async {
     if (query.trim().isEmpty) return;
 
+    _suggestDebounce?.cancel();
     setState(() {
       _isSearching = true;
       _currentSearchQuery = query;
+      _suggestions = [];
     });
 
     try {
@@ -87,6 +117,7 @@ class SearchPageState extends State<SearchPage> {
                 child: TextField(
                   controller: _searchController,
                   autofocus: true,
+                  onChanged: _onQueryChanged,
                   onSubmitted: _performSearch,
                   decoration: InputDecoration(
                     hintText: "Search events",
@@ -106,6 +137,7 @@ class SearchPageState extends State<SearchPage> {
                   setState(() {
                     _hasSearched = false;
                     _currentSearchQuery = '';
+                    _suggestions = [];
                     _searchController.clear();
                   });
                 },
@@ -115,6 +147,10 @@ class SearchPageState extends State<SearchPage> {
       ),
       body: Consumer<EventProvider>(
         builder: (context, provider, _) {
+          if (_suggestions.isNotEmpty) {
+            return _buildSuggestions();
+          }
+
           if (!_hasSearched) {
             return _buildInitialSearchState();
           }
@@ -151,6 +187,20 @@ class SearchPageState extends State<SearchPage> {
     );
   }
 
+  Widget _buildSuggestions() {
+    return ListView.builder(
+      itemCount: _suggestions.length,
+      itemBuilder: (context, index) {
+        final suggestion = _suggestions[index];
+        return ListTile(
+          leading: Icon(Icons.search, color: Colors.grey[400]),
+          title: Text(suggestion, style: TextStyle(color: Colors.white)),
+          onTap: () => _selectSuggestion(suggestion),
+        );
+      },
+    );
+  }
+
   Widget _buildNoResultsFound() {
     return Center(
       child: Column(
@@ -146,6 +146,11 @@ class EventProvider with ChangeNotifier {
     }
   }
 
+  Future<List<String>> suggestEvents(String prefix) async {
+    if (prefix.trim().isEmpty) return [];
+    return _eventService.suggestEvents(prefix);
+  }
+
   Future<void> fetchEventById(int id) async {
     try {
       _isLoading = true;
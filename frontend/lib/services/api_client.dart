@@ -16,6 +16,9 @@ class ApiClient {
   final FlutterSecureStorage _secureStorage = const FlutterSecureStorage();
   final String _tokenKey = 'auth_token';
 
+  // Last body per GET endpoint that came with an ETag, revalidated with If-None-Match
+  final Map<String, _TaggedResponse> _taggedResponses = {};
+
 ApiClient._internal() : _baseUrl = const String.fromEnvironment('API_URL', defaultValue: 'http://localhost:8080') {
     _dio = Dio(BaseOptions(
       baseUrl: _baseUrl,
@@ -41,10 +44,12 @@ ApiClient._internal() : _baseUrl = const String.fromEnvironment('API_URL', defau
   }
 
   Future<void> saveAuthToken(String token) async {
+    _taggedResponses.clear();
     await _secureStorage.write(key: _tokenKey, value: token);
   }
 
   Future<void> clearAuthToken() async {
+    _taggedResponses.clear();
     await _secureStorage.delete(key: _tokenKey);
   }
 
@@ -66,7 +71,21 @@ ApiClient._internal() : _baseUrl = const String.fromEnvironment('API_URL', defau
   Future<dynamic> get(String endpoint, {bool requiresAuth = true}) async {
     try {
       final options = await _getOptions(requiresAuth: requiresAuth);
+      final tagged = _taggedResponses[endpoint];
+      if (tagged != null) {
+        options.headers!['If-None-Match'] = tagged.etag;
+      }
+      options.validateStatus = (status) => status != null && ((status >= 200 && status < 300) || status == 304);
+
       final response = await _dio.get(endpoint, options: options);
+      if (response.statusCode == 304 && tagged != null) {
+        return tagged.data;
+      }
+
+      final etag = response.headers.value('etag');
+      if (etag != null) {
+        _taggedResponses[endpoint] = _TaggedResponse(etag, response.data);
+      }
       return response.data;
     } on DioException catch (e) {
       _handleDioError(e);
@@ -127,6 +146,8 @@ ApiClient._internal() : _baseUrl = const String.fromEnvironment('API_URL', defau
       throw Exception('Forbidden: You don\'t have permission to access this resource.');
     } else if (status == 404) {
       throw Exception('Not found: The requested resource could not be found.');
+    } else if (status == 429) {
+      throw Exception('Too many requests: Please try again in a moment.');
     } else if (status == 500) {
       throw Exception('Server error: Something went wrong on the server.');
     } else {
@@ -189,4 +210,11 @@ ApiClient._internal() : _baseUrl = const String.fromEnvironment('API_URL', defau
       rethrow;
     }
   }
-}
\ No newline at end of file
+}
+
+class _TaggedResponse {
+  final String etag;
+  final dynamic data;
+
+  _TaggedResponse(this.etag, this.data);
+}
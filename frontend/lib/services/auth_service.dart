@@ -32,6 +32,10 @@ class AuthService {
   }
 
   Future<void> logout() async {
+    try {
+      // Revoke the token server-side; logging out locally must not depend on it
+      await _apiClient.post('/auth/logout', null);
+    } catch (_) {}
     await _apiClient.clearAuthToken();
   }
 
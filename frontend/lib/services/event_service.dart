@@ -17,6 +17,12 @@ class EventService {
     return Event.fromJson(json);
   }
 
+  Future<List<Event>> getEventsByIds(List<int> ids) async {
+    if (ids.isEmpty) return [];
+    final json = await _apiClient.get('/events/batch?ids=${ids.join(',')}', requiresAuth: false);
+    return (json as List).map((item) => Event.fromJson(item)).toList();
+  }
+
   Future<PageResponse<Event>> getMainEvents({int page = 0, int size = 10}) async {
     final json = await _apiClient.get('/event/main?page=$page&size=$size', requiresAuth: false);
     return PageResponse.fromJson(json, (data) => Event.fromJson(data));
@@ -37,6 +43,11 @@ class EventService {
     return PageResponse.fromJson(json, (data) => Event.fromJson(data));
   }
 
+  Future<List<String>> suggestEvents(String prefix, {int limit = 5}) async {
+    final json = await _apiClient.get('/event/suggest?prefix=${Uri.encodeQueryComponent(prefix)}&limit=$limit', requiresAuth: false);
+    return (json as List).map((item) => item['text'] as String).toList();
+  }
+
   Future<Event> createEvent(Event event) async {
     final json = await _apiClient.post('/event', event.toJson());
     return Event.fromJson(json);
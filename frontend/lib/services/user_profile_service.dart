@@ -37,10 +37,14 @@ Future<User> updateUserProfile(String newName, String newLastName) async {
   Future<void> updateUserPassword(String currentPassword, String newPassword) async {
     try {
       // This endpoint would need to be created in the backend
-      await _apiClient.put('/user/password', {
+      // Changing the password revokes existing tokens; the response carries a fresh one
+      final json = await _apiClient.put('/user/password', {
         'currentPassword': currentPassword,
         'newPassword': newPassword
       });
+      if (json is Map && json['token'] != null) {
+        await _apiClient.saveAuthToken(json['token']);
+      }
     } catch (e) {
       rethrow;
     }
@@ -2,6 +2,7 @@ import 'package:events_amo/models/user.dart';
 import 'package:image_picker/image_picker.dart';
 
 import '../models/event.dart';
+import '../models/page_response.dart';
 import 'api_client.dart';
 
 class UserService {
@@ -17,11 +18,24 @@ class UserService {
     await _apiClient.delete('/user/unsave-event/$eventId');
   }
 
+  Future<void> saveEvents(List<int> eventIds) async {
+    await _apiClient.post('/user/save-events', eventIds);
+  }
+
+  Future<void> unsaveEvents(List<int> eventIds) async {
+    await _apiClient.post('/user/unsave-events', eventIds);
+  }
+
   Future<List<Event>> getSavedEvents() async {
     final json = await _apiClient.get('/user/saved-events');
     return (json as List).map((item) => Event.fromJson(item)).toList();
   }
 
+  Future<PageResponse<Event>> getSavedEventsPage({int size = 20, String? cursor, bool includePast = false}) async {
+    final json = await _apiClient.get(_membershipPagePath('/user/saved-events/page', size, cursor, includePast));
+    return PageResponse.fromJson(json, (data) => Event.fromJson(data));
+  }
+
   Future<void> attendEvent(int eventId) async {
     await _apiClient.post('/user/attend-event/$eventId', {});
   }
@@ -30,11 +44,39 @@ class UserService {
     await _apiClient.delete('/user/unattend-event/$eventId');
   }
 
+  Future<void> attendEvents(List<int> eventIds) async {
+    await _apiClient.post('/user/attend-events', eventIds);
+  }
+
+  Future<void> unattendEvents(List<int> eventIds) async {
+    await _apiClient.post('/user/unattend-events', eventIds);
+  }
+
   Future<List<Event>> getAttendingEvents() async {
     final json = await _apiClient.get('/user/attending-events');
     return (json as List).map((item) => Event.fromJson(item)).toList();
   }
 
+  Future<PageResponse<Event>> getAttendingEventsPage({int size = 20, String? cursor, bool includePast = false}) async {
+    final json = await _apiClient.get(_membershipPagePath('/user/attending-events/page', size, cursor, includePast));
+    return PageResponse.fromJson(json, (data) => Event.fromJson(data));
+  }
+
+  /// Saved and attending flags for the given events, e.g. the ones on the current page.
+  Future<({Set<int> saved, Set<int> attending})> getEventMemberships(List<int> eventIds) async {
+    if (eventIds.isEmpty) return (saved: <int>{}, attending: <int>{});
+    final json = await _apiClient.get('/user/event-memberships?ids=${eventIds.join(',')}');
+    return (
+      saved: Set<int>.from(json['saved'] as List),
+      attending: Set<int>.from(json['attending'] as List),
+    );
+  }
+
+  String _membershipPagePath(String path, int size, String? cursor, bool includePast) {
+    final cursorParam = cursor != null ? '&cursor=${Uri.encodeQueryComponent(cursor)}' : '';
+    return '$path?size=$size&includePast=$includePast$cursorParam';
+  }
+
   Future<User> getCurrentUser() async {
     final json = await _apiClient.get('/user/current');
     return User.fromJson(json);